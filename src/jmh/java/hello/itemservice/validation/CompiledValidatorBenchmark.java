@@ -0,0 +1,67 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation(Hibernate Validator) vs 컴파일 시점에 생성된 검증기
+ * ./gradlew jmh -Pjmh.include=CompiledValidatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompiledValidatorBenchmark {
+
+    @Param({"valid", "invalid"})
+    String input;
+
+    Validator beanValidator;
+    Validator compiledValidator;
+    ItemSaveForm form;
+
+    @Setup
+    public void setUp() {
+        beanValidator = new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+        compiledValidator = new ItemSaveFormCompiledValidator();
+
+        form = new ItemSaveForm();
+        if (input.equals("valid")) {
+            form.setItemName("itemA");
+            form.setPrice(10000);
+            form.setQuantity(10);
+        } else {
+            form.setItemName(" ");
+            form.setPrice(0);
+            form.setQuantity(10000);
+        }
+    }
+
+    @Benchmark
+    public BindingResult beanValidation() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult compiledValidation() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        compiledValidator.validate(form, bindingResult);
+        return bindingResult;
+    }
+}
@@ -0,0 +1,65 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.rule.ItemRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복합 룰(totalPriceMin) 검사 1회 비용: 컨트롤러마다 복사되어 있던 코드(inline) vs ItemRules 실행 계획(plan)
+ * - valid: 필드 오류 없음, 룰 통과 (대부분의 요청)
+ * - fieldError: 수량 필드 오류가 이미 있음 (plan 은 룰을 건너뛴다)
+ * 두 경우 모두 오류를 추가하지 않으므로 BindingResult 를 재사용해서 룰 비용만 잰다.
+ * ./gradlew jmh -Pjmh.include=CrossFieldRuleBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrossFieldRuleBenchmark {
+
+    @Param({"valid", "fieldError"})
+    String input;
+
+    ItemSaveForm form;
+    BindingResult bindingResult;
+
+    @Setup
+    public void setUp() {
+        form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(10000);
+        form.setQuantity(input.equals("valid") ? 10 : 10000);
+
+        bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        if (input.equals("fieldError")) {
+            bindingResult.rejectValue("quantity", "Max", new Object[]{9999}, null);
+        }
+    }
+
+    @Benchmark
+    public BindingResult inline() {
+        if (form.getPrice() != null && form.getQuantity() != null) {
+            int resultPrice = form.getPrice() * form.getQuantity();
+            if (resultPrice < 10000) {
+                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
+            }
+        }
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult plan() {
+        ItemRules.validate(form, bindingResult);
+        return bindingResult;
+    }
+}
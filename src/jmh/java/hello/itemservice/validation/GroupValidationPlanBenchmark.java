@@ -0,0 +1,85 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.web.validation.GroupPlanValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건의 Bean Validation 비용: @Validated(SpringValidatorAdapter) vs 그룹별 검증 계획 캐시(GroupPlanValidator)
+ * - grouped: SaveCheck 그룹 (ValidationStrategyBenchmark.GroupItem)
+ * - ungrouped: Default 그룹 (ItemSaveForm)
+ * - valid / invalid: 모든 필드 통과 / 모든 필드 오류
+ * ./gradlew jmh -Pjmh.include=GroupValidationPlanBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GroupValidationPlanBenchmark {
+
+    @Param({"grouped", "ungrouped"})
+    String groups;
+
+    @Param({"valid", "invalid"})
+    String input;
+
+    SmartValidator beanValidator;
+    SmartValidator planValidator;
+    Object target;
+    Object[] hints;
+
+    @Setup
+    public void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        beanValidator = new SpringValidatorAdapter(validator);
+        planValidator = new GroupPlanValidator(validator);
+
+        boolean valid = input.equals("valid");
+        if (groups.equals("grouped")) {
+            ValidationStrategyBenchmark.GroupItem item = new ValidationStrategyBenchmark.GroupItem();
+            item.setItemName(valid ? "itemA" : " ");
+            item.setPrice(valid ? 10000 : 0);
+            item.setQuantity(valid ? 10 : 10000);
+            target = item;
+            hints = new Object[]{SaveCheck.class};
+        } else {
+            ItemSaveForm form = new ItemSaveForm();
+            form.setItemName(valid ? "itemA" : " ");
+            form.setPrice(valid ? 10000 : 0);
+            form.setQuantity(valid ? 10 : 10000);
+            target = form;
+            hints = new Object[0];
+        }
+    }
+
+    @Benchmark
+    public BindingResult beanValidation() {
+        return validate(beanValidator);
+    }
+
+    @Benchmark
+    public BindingResult plan() {
+        return validate(planValidator);
+    }
+
+    private BindingResult validate(SmartValidator validator) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(target, "item");
+        validator.validate(target, bindingResult, hints);
+        return bindingResult;
+    }
+}
@@ -0,0 +1,63 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류가 많은 요청에서 rejectValue 의 메시지 코드 생성 비용 비교
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인한다.
+ * ./gradlew jmh -Pjmh.include=MessageCodesResolverBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageCodesResolverBenchmark {
+
+    MessageCodesResolver defaultResolver;
+    MessageCodesResolver cachingResolver;
+    ItemSaveForm form;
+
+    @Setup
+    public void setUp() {
+        defaultResolver = new DefaultMessageCodesResolver();
+        cachingResolver = new CachingMessageCodesResolver(new DefaultMessageCodesResolver(), 1024);
+
+        form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(0);
+        form.setQuantity(10000);
+    }
+
+    @Benchmark
+    public BindingResult defaultResolver() {
+        return reject(defaultResolver);
+    }
+
+    @Benchmark
+    public BindingResult cachingResolver() {
+        return reject(cachingResolver);
+    }
+
+    private BindingResult reject(MessageCodesResolver resolver) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        bindingResult.setMessageCodesResolver(resolver);
+        bindingResult.rejectValue("itemName", "required");
+        bindingResult.rejectValue("price", "range", new Object[]{1000, 1000000}, null);
+        bindingResult.rejectValue("quantity", "max", new Object[]{9999}, null);
+        bindingResult.reject("totalPriceMin", new Object[]{10000, 0}, null);
+        return bindingResult;
+    }
+}
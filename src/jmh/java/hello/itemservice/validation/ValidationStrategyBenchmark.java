@@ -0,0 +1,208 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.PricedItem;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.web.validation.ItemFormValidator;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.rule.ItemRules;
+import org.hibernate.validator.constraints.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 버전별 검증 방식 비교 (바인딩, 저장, 뷰 렌더링은 제외하고 검증 단계만 측정)
+ *
+ * - v1: Map 에 오류 메시지를 직접 담는다. (ValidationItemControllerV1)
+ * - v2FieldError: FieldError/ObjectError 를 메시지 코드와 함께 직접 생성한다. (ValidationItemControllerV2.addItemV3)
+ * - v2RejectValue: ItemValidator 의 rejectValue/reject (addItemV4 ~ V6 와 같은 로직)
+ * - v3Groups: Bean Validation 그룹(SaveCheck) + totalPriceMin (ValidationItemControllerV3.addItem2)
+ * - v4Form: ItemSaveForm Bean Validation + totalPriceMin (ValidationItemControllerV4)
+ * - v4Compiled: v4 와 같은 검증을 컴파일 시점에 생성된 검증기로 수행
+ *
+ * 입력: valid(오류 없음), partial(수량 오류 1개), invalid(필드 오류 3개 + totalPriceMin)
+ * 처리량과 지연시간 분포(SampleTime), gc 프로파일러의 할당량(gc.alloc.rate.norm)을 함께 본다.
+ * ./gradlew jmh -Pjmh.include=ValidationStrategyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationStrategyBenchmark {
+
+    @Param({"valid", "partial", "invalid"})
+    String input;
+
+    Item item;
+    GroupItem groupItem;
+    ItemSaveForm form;
+
+    ItemValidator itemValidator;
+    SpringValidatorAdapter beanValidator;
+    ItemFormValidator formValidator;
+    ItemFormValidator compiledFormValidator;
+
+    @Setup
+    public void setUp() {
+        String itemName = "itemA";
+        int price = 10000;
+        int quantity = 10;
+        if (input.equals("partial")) {
+            quantity = 10000;
+        } else if (input.equals("invalid")) {
+            itemName = " ";
+            price = 0;
+            quantity = 10000;
+        }
+
+        item = new Item(itemName, price, quantity);
+
+        groupItem = new GroupItem();
+        groupItem.setItemName(itemName);
+        groupItem.setPrice(price);
+        groupItem.setQuantity(quantity);
+
+        form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        itemValidator = new ItemValidator();
+        beanValidator = new SpringValidatorAdapter(validator);
+        formValidator = new ItemFormValidator(validator, false);
+        compiledFormValidator = new ItemFormValidator(validator, true);
+    }
+
+    @Benchmark
+    public Map<String, String> v1() {
+        Map<String, String> errors = new HashMap<>();
+
+        if (!StringUtils.hasText(item.getItemName())) {
+            errors.put("itemName", "상품 이름은 필수입니다.");
+        }
+        if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) {
+            errors.put("price", "가격은 1,000 ~ 1,000,000 까지 허용합니다.");
+        }
+        if (item.getQuantity() == null || item.getQuantity() >= 9999) {
+            errors.put("quantity", "수량은 최대 9,999 까지 허용됩니다.");
+        }
+        if (item.getPrice() != null && item.getQuantity() != null) {
+            int resultPrice = item.getPrice() * item.getQuantity();
+            if (resultPrice < 10000) {
+                errors.put("globalError", "가격 * 수량의 합은 10,000원 이상이어야 합니다. 현재 값 = " + resultPrice);
+            }
+        }
+        return errors;
+    }
+
+    @Benchmark
+    public BindingResult v2FieldError() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+
+        if (!StringUtils.hasText(item.getItemName())) {
+            bindingResult.addError(new FieldError("item", "itemName", item.getItemName(), false, new String[]{"required.item.itemName"}, null, null));
+        }
+        if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) {
+            bindingResult.addError(new FieldError("item", "price", item.getPrice(), false, new String[]{"range.item.price"}, new Object[]{1000, 1000000}, null));
+        }
+        if (item.getQuantity() == null || item.getQuantity() >= 9999) {
+            bindingResult.addError(new FieldError("item", "quantity", item.getQuantity(), false, new String[]{"max.item.quantity"}, new Object[]{9999}, null));
+        }
+        if (item.getPrice() != null && item.getQuantity() != null) {
+            int resultPrice = item.getPrice() * item.getQuantity();
+            if (resultPrice < 10000) {
+                bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice}, null));
+            }
+        }
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult v2RejectValue() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        itemValidator.validate(item, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult v3Groups() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(groupItem, "item");
+        beanValidator.validate(groupItem, bindingResult, SaveCheck.class);
+        ItemRules.validate(groupItem, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult v4Form() {
+        return formValidator.validate(form);
+    }
+
+    @Benchmark
+    public BindingResult v4Compiled() {
+        return compiledFormValidator.validate(form);
+    }
+
+    /**
+     * v3 에서 사용하던 그룹 애노테이션을 붙인 Item
+     * (Item 의 애노테이션은 v4 로 넘어가면서 주석 처리되어 있다)
+     */
+    public static class GroupItem implements PricedItem {
+
+        @NotBlank(groups = SaveCheck.class)
+        private String itemName;
+
+        @NotNull(groups = SaveCheck.class)
+        @Range(min = 1000, max = 1000000, groups = SaveCheck.class)
+        private Integer price;
+
+        @NotNull(groups = SaveCheck.class)
+        @Max(value = 9999, groups = SaveCheck.class)
+        private Integer quantity;
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public void setItemName(String itemName) {
+            this.itemName = itemName;
+        }
+
+        public Integer getPrice() {
+            return price;
+        }
+
+        public void setPrice(Integer price) {
+            this.price = price;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package hello.itemservice;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSortType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,9 +16,14 @@ public class TestDataInit {
 
     /**
      * 테스트용 데이터 추가
+     * 로그에서 복구된 데이터가 있으면 추가하지 않는다.
      */
     @PostConstruct
     public void init() {
+        if (!itemRepository.findPage(ItemSortType.ID, null, 1).getItems().isEmpty()) {
+            return;
+        }
+
         itemRepository.save(new Item("itemA", 10000, 10));
         itemRepository.save(new Item("itemB", 20000, 20));
     }
@@ -0,0 +1,39 @@
+package hello.itemservice.config;
+
+import hello.itemservice.web.validation.AdaptiveValidator;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.rule.ItemRules;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.validation.Validator;
+
+/**
+ * validation.adaptive.enabled=true 이면 fail-fast 모드의 필드 검사 순서를 관찰한 거절률과 비용으로 바꾼다.
+ * - ItemSaveForm (Bean Validation): JSON API(ValidationItemApiController)
+ * - Item (ItemValidator): ValidationItemControllerV2
+ * 순서를 바꿔서 아낄 수 있는 건 첫 오류 이후의 검사뿐이므로, 모든 오류를 모으는 full 모드는 기존 검증기를 그대로 사용한다.
+ * 첫 오류가 어느 필드인지는 최근 요청의 거절 패턴에 따라 달라진다. (통과 여부는 같다)
+ * 두 빈 모두 AdaptiveValidator 타입이므로 사용하는 쪽은 supports() 로 골라 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "validation.adaptive.enabled", havingValue = "true")
+public class AdaptiveValidationConfig {
+
+    @Bean
+    public AdaptiveValidator adaptiveFailFastValidator(Validator validator) {
+        return AdaptiveValidator.beanValidation(validator, ItemSaveForm.class)
+                .after((target, errors) -> ItemRules.validate((ItemSaveForm) target, errors))
+                .failFast(true)
+                .build();
+    }
+
+    @Bean
+    public AdaptiveValidator adaptiveItemValidator(ItemValidator itemValidator) {
+        return itemValidator.adaptiveRules()
+                .failFast(true)
+                .build();
+    }
+}
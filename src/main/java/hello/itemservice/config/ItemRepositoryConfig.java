@@ -0,0 +1,41 @@
+package hello.itemservice.config;
+
+import hello.itemservice.domain.item.ColumnarItemRepository;
+import hello.itemservice.domain.item.DurableItemRepository;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+/**
+ * 저장소 구현체 선택
+ * item.repository.type=memory (기본값) 또는 columnar
+ * memory 저장소는 item.repository.wal.enabled=true 이면 로그(WAL)에 기록해서 재시작 후에도 데이터를 복구한다.
+ */
+@Configuration
+public class ItemRepositoryConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "item.repository.type", havingValue = "memory", matchIfMissing = true)
+    public ItemRepository memoryItemRepository(
+            @Value("${item.repository.wal.enabled:false}") boolean walEnabled,
+            @Value("${item.repository.wal.dir:data/wal}") String walDir,
+            @Value("${item.repository.wal.snapshot-interval-seconds:600}") long snapshotIntervalSeconds) {
+
+        MemoryItemRepository memoryItemRepository = new MemoryItemRepository();
+        if (!walEnabled) {
+            return memoryItemRepository;
+        }
+        return new DurableItemRepository(memoryItemRepository, Paths.get(walDir), snapshotIntervalSeconds);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "item.repository.type", havingValue = "columnar")
+    public ItemRepository columnarItemRepository() {
+        return new ColumnarItemRepository();
+    }
+}
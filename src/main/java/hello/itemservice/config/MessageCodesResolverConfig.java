@@ -0,0 +1,25 @@
+package hello.itemservice.config;
+
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+/**
+ * 오류 코드 생성 설정
+ * MVC(WebConfig)와 WebFlux(ReactiveItemApiApplication) 애플리케이션이 같은 resolver 를 사용하도록 WebConfig 와 분리한다.
+ */
+@Configuration
+public class MessageCodesResolverConfig {
+
+    /**
+     * 오류 코드 생성: 캐시 -> DefaultMessageCodesResolver
+     * 컨트롤러 바인딩 외에 ItemFormValidator, ReactiveItemApiHandler 에서도 같은 빈을 사용한다.
+     */
+    @Bean
+    public MessageCodesResolver messageCodesResolver(@Value("${validation.message-codes-cache-size:4096}") int cacheSize) {
+        return new CachingMessageCodesResolver(new DefaultMessageCodesResolver(), cacheSize);
+    }
+}
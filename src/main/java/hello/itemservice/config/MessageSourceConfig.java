@@ -0,0 +1,46 @@
+package hello.itemservice.config;
+
+import hello.itemservice.message.PrecompiledMessageSource;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * 메시지 소스 설정
+ * 스프링 부트의 MessageSourceAutoConfiguration 대신 PrecompiledMessageSource 를 등록한다.
+ * 설정(spring.messages.*)은 스프링 부트와 같은 값을 사용한다.
+ */
+@Configuration
+public class MessageSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.messages")
+    public MessageSourceProperties messageSourceProperties() {
+        return new MessageSourceProperties();
+    }
+
+    @Bean
+    public PrecompiledMessageSource messageSource(MessageSourceProperties properties) {
+        PrecompiledMessageSource messageSource = new PrecompiledMessageSource();
+        for (String basename : StringUtils.commaDelimitedListToStringArray(
+                StringUtils.trimAllWhitespace(properties.getBasename()))) {
+            // ResourceBundleMessageSource 와 같이 클래스패스에서 찾는다. (messages -> classpath:messages)
+            messageSource.addBasenames(basename.contains(":") ? basename : "classpath:" + basename.replace('.', '/'));
+        }
+        if (properties.getEncoding() != null) {
+            messageSource.setDefaultEncoding(properties.getEncoding().name());
+        }
+        messageSource.setFallbackToSystemLocale(properties.isFallbackToSystemLocale());
+        Duration cacheDuration = properties.getCacheDuration();
+        if (cacheDuration != null) {
+            messageSource.setCacheMillis(cacheDuration.toMillis());
+        }
+        messageSource.setAlwaysUseMessageFormat(properties.isAlwaysUseMessageFormat());
+        messageSource.setUseCodeAsDefaultMessage(properties.isUseCodeAsDefaultMessage());
+        return messageSource;
+    }
+}
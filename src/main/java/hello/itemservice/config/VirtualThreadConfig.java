@@ -0,0 +1,44 @@
+package hello.itemservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, Java 21 이상에서 실행)
+ * 설정 이름은 스프링 부트 3.2 의 가상 스레드 설정과 같게 두었다. (부트를 올리면 같은 설정이 부트의 기능으로 이어진다)
+ *
+ * Tomcat 의 고정 크기 작업 스레드 풀 대신 요청마다 가상 스레드를 만들어서 처리한다.
+ * 저장소가 느려서 요청이 기다리는 동안에도 플랫폼 스레드를 점유하지 않으므로, 동시에 처리할 수 있는 요청 수가
+ * server.tomcat.threads.max 가 아니라 server.tomcat.max-connections 로 제한된다.
+ *
+ * Java 11 로 컴파일하므로 Executors.newVirtualThreadPerTaskExecutor 는 리플렉션으로 호출한다. (Java 21 은 실행할 때만 필요)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("Tomcat 요청 처리에 가상 스레드 사용");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true 는 Java 21 이상에서 실행해야 합니다. 현재 버전 = "
+                    + System.getProperty("java.version"), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 Executor 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package hello.itemservice.config;
+
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.binding.FormBindingMethodProcessor;
+import hello.itemservice.web.fragment.ItemFragmentCache;
+import hello.itemservice.web.idempotency.IdempotencyCache;
+import hello.itemservice.web.idempotency.IdempotencyFilter;
+import hello.itemservice.web.validation.TimedArgumentResolver;
+import hello.itemservice.web.validation.ValidationMetrics;
+import hello.itemservice.web.validation.ValidationMetricsInterceptor;
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledBinder;
+import hello.itemservice.web.validation.form.ItemUpdateFormCompiledBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.method.annotation.ModelAttributeMethodProcessor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.thymeleaf.spring5.ISpringTemplateEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ValidationMetrics validationMetrics;
+    private final MessageCodesResolver messageCodesResolver; // MessageCodesResolverConfig
+
+    @Value("${binding.compiled.enabled:true}")
+    private boolean compiledBinding;
+
+    /**
+     * 모든 컨트롤러의 바인딩/검증 오류 코드 생성에 MessageCodesResolverConfig 의 resolver 를 사용한다.
+     */
+    @Override
+    public MessageCodesResolver getMessageCodesResolver() {
+        return messageCodesResolver;
+    }
+
+    /**
+     * 요청이 끝난 뒤 BindingResult 의 오류를 센다. (TimedArgumentResolver 가 모아 둔 BindingResult)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ValidationMetricsInterceptor(validationMetrics));
+    }
+
+    /**
+     * @ModelAttribute, @RequestBody 인자 처리기를 TimedArgumentResolver 로 감싸서 바인딩 + 검증 시간을 잰다.
+     * binding.compiled.enabled=true(기본값)이면 @ModelAttribute 처리기를 FormBindingMethodProcessor 로 바꿔서
+     * ItemSaveForm, ItemUpdateForm 은 컴파일 시점에 생성된 바인더로 바인딩한다.
+     */
+    @Bean
+    public WebMvcRegistrations validationMetricsRegistrations() {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new RequestMappingHandlerAdapter() {
+                    @Override
+                    public void afterPropertiesSet() {
+                        super.afterPropertiesSet();
+                        List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
+                        List<HandlerMethodArgumentResolver> defaults = getArgumentResolvers();
+                        for (int i = 0; i < defaults.size(); i++) {
+                            HandlerMethodArgumentResolver resolver = defaults.get(i);
+                            if (compiledBinding && resolver.getClass() == ServletModelAttributeMethodProcessor.class) {
+                                // 마지막 처리기는 @ModelAttribute 를 생략한 인자까지 처리한다. (annotationNotRequired)
+                                resolver = new FormBindingMethodProcessor(i == defaults.size() - 1,
+                                        new ItemSaveFormCompiledBinder(), new ItemUpdateFormCompiledBinder());
+                            }
+                            boolean binding = resolver instanceof ModelAttributeMethodProcessor
+                                    || resolver instanceof RequestResponseBodyMethodProcessor;
+                            resolvers.add(binding ? new TimedArgumentResolver(resolver, validationMetrics) : resolver);
+                        }
+                        setArgumentResolvers(resolvers);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * 상품 등록(POST /add) 요청의 멱등 키 처리
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            @Value("${idempotency.max-entries:1000}") int maxEntries,
+            @Value("${idempotency.ttl-seconds:600}") long ttlSeconds) {
+
+        IdempotencyCache cache = new IdempotencyCache(maxEntries, TimeUnit.SECONDS.toMillis(ttlSeconds));
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(new IdempotencyFilter(cache));
+        registration.addUrlPatterns(
+                "/validation/v1/items/add",
+                "/validation/v2/items/add",
+                "/validation/v3/items/add",
+                "/validation/v4/items/add",
+                "/validation/api/items/add");
+        return registration;
+    }
+
+    /**
+     * 렌더링된 상품 행, 상세 조각 캐시 (items.html, item.html 에서 ${@itemFragmentCache...} 로 사용)
+     */
+    @Bean
+    public ItemFragmentCache itemFragmentCache(ItemRepository itemRepository, ISpringTemplateEngine templateEngine,
+                                               @Value("${item.fragment-cache.max-entries:10000}") int maxEntries) {
+        return new ItemFragmentCache(itemRepository, templateEngine, maxEntries);
+    }
+}
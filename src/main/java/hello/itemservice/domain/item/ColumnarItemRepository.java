@@ -0,0 +1,503 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 컬럼 저장소 (item.repository.type=columnar)
+ * 상품마다 Item 객체를 보관하지 않고 필드별 primitive 배열에 나눠서 저장한다.
+ * - id 는 (행 번호 + 1) 이므로 따로 저장하지 않는다.
+ * - 상품명은 사전(dictionary) 인코딩해서 int 코드만 보관한다. 같은 이름은 한 번만 저장된다.
+ *   사전은 이름 순으로 정렬되어 있고 이름마다 그 이름을 가진 행 번호(int[])를 들고 있어서,
+ *   이름 순 페이지와 접두사 검색은 MemoryItemRepository 의 인덱스처럼 O(log n + k) 로 처리한다.
+ *   어떤 행도 쓰지 않는 이름은 사전에서 빼고 코드를 다시 사용한다.
+ * - Item 은 findById, findAll 등에서 요청할 때만 만들어서 반환한다. (반환된 Item 을 수정해도 저장소에는 반영되지 않는다)
+ *
+ * 메모리를 줄이기 위해 가격, 수량에는 보조 인덱스를 두지 않는다.
+ * 가격 순 페이지와 가격/수량 범위 검색은 컬럼을 훑어서(scan) 처리하므로 O(n) 이다. (대량 데이터에서는 memory 저장소를 사용)
+ */
+public class ColumnarItemRepository implements ItemRepository {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NULL_NAME = -1;
+    private static final byte PRICE_NULL = 1;
+    private static final byte QUANTITY_NULL = 2;
+
+    /**
+     * 정렬 키: (정렬 값 << 31) | 행 번호
+     * 행 번호는 31비트 안에 들어가므로 long 비교 한 번으로 (값, id) 순서를 비교할 수 있다.
+     * null 은 int 범위 밖의 값(NULL_SORT_VALUE)으로 두어서 가장 앞에 정렬한다.
+     */
+    private static final long NULL_SORT_VALUE = (long) Integer.MIN_VALUE - 1;
+    private static final long ROW_MASK = 0x7fffffffL;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+    private int[] nameCodes = new int[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private byte[] nullFlags = new byte[INITIAL_CAPACITY];
+
+    /**
+     * 행별 버전과 전체 변경 스탬프 (ItemVersions 와 같은 밀리초 기반 값)
+     * 다른 컬럼처럼 배열 하나로 보관해서 상품마다 맵 항목과 박싱된 Long 을 만들지 않는다. 락 안에서만 읽고 쓴다.
+     */
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private long stamp;
+
+    /**
+     * 상품명 사전: 이름 -> (코드, 행 번호), 코드 -> 이름
+     * 이름이 null 인 행은 nullNames 에 둔다. (이름 순 정렬에서 가장 앞)
+     */
+    private TreeMap<String, NameEntry> dictionary = new TreeMap<>();
+    private List<String> names = new ArrayList<>();
+    private ArrayDeque<Integer> freeCodes = new ArrayDeque<>();
+    private NameEntry nullNames = new NameEntry(NULL_NAME);
+
+    @Override
+    public Item save(Item item) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(size + 1);
+            int row = size++;
+            nameCodes[row] = index(item.getItemName(), row);
+            writeValues(row, item);
+            item.setId(idOf(row));
+            versions[row] = nextStamp();
+            return item;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Item findById(Long id) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(id);
+            return row < 0 ? null : view(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Item> items = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                items.add(view(row));
+            }
+            return items;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ItemPage findPage(ItemSortType sort, String cursor, int size) {
+        int pageSize = ItemPage.sizeOf(size);
+        Item after = sort.parseCursor(cursor);
+
+        lock.readLock().lock();
+        try {
+            List<Item> items;
+            switch (sort) {
+                case PRICE:
+                    items = scan(row -> true, this::priceKey,
+                            after == null ? Long.MIN_VALUE : sortKey(after.getPrice(), after.getId()), pageSize + 1);
+                    break;
+                case NAME:
+                    items = pageByName(after, pageSize + 1);
+                    break;
+                default:
+                    items = pageById(after, pageSize + 1);
+            }
+
+            if (items.size() <= pageSize) {
+                return new ItemPage(items, null);
+            }
+            items.remove(pageSize);
+            return new ItemPage(items, sort.cursorOf(items.get(pageSize - 1)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * prefix 가 null 이면 빈 문자열과 같다. (MemoryItemRepository 와 같음)
+     */
+    @Override
+    public List<Item> findByNamePrefix(String prefix, int limit) {
+        String namePrefix = prefix == null ? "" : prefix;
+        lock.readLock().lock();
+        try {
+            // 정렬된 사전에서 접두사가 맞는 이름만 차례로 읽는다.
+            int pageSize = ItemPage.sizeOf(limit);
+            List<Item> items = new ArrayList<>(pageSize);
+            for (Map.Entry<String, NameEntry> entry : dictionary.tailMap(namePrefix, true).entrySet()) {
+                if (items.size() == pageSize || !entry.getKey().startsWith(namePrefix)) {
+                    break;
+                }
+                addRows(entry.getValue(), 0, items, pageSize);
+            }
+            return items;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findByPriceRange(Integer minPrice, Integer maxPrice, int limit) {
+        int min = minPrice == null ? Integer.MIN_VALUE : minPrice;
+        int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+
+        lock.readLock().lock();
+        try {
+            return scan(row -> (nullFlags[row] & PRICE_NULL) == 0 && prices[row] >= min && prices[row] <= max,
+                    this::priceKey, Long.MIN_VALUE, ItemPage.sizeOf(limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findByQuantityRange(Integer minQuantity, Integer maxQuantity, int limit) {
+        int min = minQuantity == null ? Integer.MIN_VALUE : minQuantity;
+        int max = maxQuantity == null ? Integer.MAX_VALUE : maxQuantity;
+
+        lock.readLock().lock();
+        try {
+            return scan(row -> (nullFlags[row] & QUANTITY_NULL) == 0 && quantities[row] >= min && quantities[row] <= max,
+                    row -> ((long) quantities[row] << 31) | row, Long.MIN_VALUE, ItemPage.sizeOf(limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(itemId);
+            if (row >= 0) {
+                if (!Objects.equals(nameOf(row), updateParam.getItemName())) {
+                    unindex(row);
+                    nameCodes[row] = index(updateParam.getItemName(), row);
+                }
+                writeValues(row, updateParam);
+                versions[row] = nextStamp();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            nameCodes = new int[INITIAL_CAPACITY];
+            prices = new int[INITIAL_CAPACITY];
+            quantities = new int[INITIAL_CAPACITY];
+            nullFlags = new byte[INITIAL_CAPACITY];
+            versions = new long[INITIAL_CAPACITY];
+            // clear() 는 내부 배열 크기를 유지하므로 새로 만들어서 사전 메모리도 돌려준다.
+            dictionary = new TreeMap<>();
+            names = new ArrayList<>();
+            freeCodes = new ArrayDeque<>();
+            nullNames = new NameEntry(NULL_NAME);
+            nextStamp(); // 비운 목록도 이전 목록과 다른 ETag 를 갖도록
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long getVersion(Long itemId) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(itemId);
+            return row < 0 ? 0 : versions[row];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long getStamp() {
+        lock.readLock().lock();
+        try {
+            return stamp;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 쓰기 락 안에서 호출한다. 현재 시각(밀리초) 기준, 항상 이전 값보다 크다.
+     */
+    private long nextStamp() {
+        stamp = Math.max(System.currentTimeMillis(), stamp + 1);
+        return stamp;
+    }
+
+    private void writeValues(int row, Item item) {
+        byte flags = 0;
+        if (item.getPrice() == null) {
+            flags |= PRICE_NULL;
+        } else {
+            prices[row] = item.getPrice();
+        }
+        if (item.getQuantity() == null) {
+            flags |= QUANTITY_NULL;
+        } else {
+            quantities[row] = item.getQuantity();
+        }
+        nullFlags[row] = flags;
+    }
+
+    /**
+     * 행 번호로 Item 을 만든다. (조회할 때만 객체 생성)
+     */
+    private Item view(int row) {
+        int code = nameCodes[row];
+        Item item = new Item(
+                code == NULL_NAME ? null : names.get(code),
+                (nullFlags[row] & PRICE_NULL) == 0 ? prices[row] : null,
+                (nullFlags[row] & QUANTITY_NULL) == 0 ? quantities[row] : null);
+        item.setId(idOf(row));
+        return item;
+    }
+
+    private String nameOf(int row) {
+        int code = nameCodes[row];
+        return code == NULL_NAME ? null : names.get(code);
+    }
+
+    /**
+     * 행을 이름의 행 목록에 넣고 사전 코드를 반환한다. (처음 보는 이름이면 코드를 새로 받는다)
+     */
+    private int index(String name, int row) {
+        if (name == null) {
+            nullNames.add(row);
+            return NULL_NAME;
+        }
+        NameEntry entry = dictionary.get(name);
+        if (entry == null) {
+            Integer code = freeCodes.poll();
+            if (code == null) {
+                code = names.size();
+                names.add(name);
+            } else {
+                names.set(code, name);
+            }
+            entry = new NameEntry(code);
+            dictionary.put(name, entry);
+        }
+        entry.add(row);
+        return entry.code;
+    }
+
+    /**
+     * 행을 현재 이름의 행 목록에서 뺀다. 더 이상 쓰는 행이 없는 이름은 사전에서 빼고 코드를 돌려준다.
+     */
+    private void unindex(int row) {
+        int code = nameCodes[row];
+        if (code == NULL_NAME) {
+            nullNames.remove(row);
+            return;
+        }
+        String name = names.get(code);
+        NameEntry entry = dictionary.get(name);
+        entry.remove(row);
+        if (entry.count == 0) {
+            dictionary.remove(name);
+            names.set(code, null);
+            freeCodes.push(code);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= nameCodes.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, nameCodes.length + (nameCodes.length >> 1));
+        nameCodes = Arrays.copyOf(nameCodes, newCapacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+        quantities = Arrays.copyOf(quantities, newCapacity);
+        nullFlags = Arrays.copyOf(nullFlags, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+    }
+
+    private List<Item> pageById(Item after, int limit) {
+        int from = after == null ? 0 : (int) Math.max(0, Math.min(after.getId(), size));
+        int to = Math.min(size, from + limit);
+        List<Item> items = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            items.add(view(row));
+        }
+        return items;
+    }
+
+    /**
+     * 조건에 맞는 행 중에서 정렬 키가 afterKey 보다 큰 것을 작은 순서로 limit 개 고른다.
+     * 정렬된 long 배열 하나만 사용하므로 검색 중에 만들어지는 객체는 결과 Item 뿐이다.
+     */
+    private List<Item> scan(IntPredicate filter, IntToLongFunction sortKey, long afterKey, int limit) {
+        long[] top = new long[limit];
+        int count = 0;
+
+        for (int row = 0; row < size; row++) {
+            if (!filter.test(row)) {
+                continue;
+            }
+            long key = sortKey.applyAsLong(row);
+            if (key <= afterKey || (count == limit && key >= top[count - 1])) {
+                continue;
+            }
+
+            int position = Arrays.binarySearch(top, 0, count, key);
+            position = position < 0 ? -position - 1 : position;
+            int moved = Math.min(count, limit - 1) - position;
+            if (moved > 0) {
+                System.arraycopy(top, position, top, position + 1, moved);
+            }
+            top[position] = key;
+            count = Math.min(count + 1, limit);
+        }
+
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(view((int) (top[i] & ROW_MASK)));
+        }
+        return items;
+    }
+
+    private long priceKey(int row) {
+        return (nullFlags[row] & PRICE_NULL) == 0 ? ((long) prices[row] << 31) | row : (NULL_SORT_VALUE << 31) | row;
+    }
+
+    /**
+     * 이름 순(null 이 먼저, 같은 이름은 id 순) 페이지: 커서 위치부터 사전을 차례로 읽는다.
+     */
+    private List<Item> pageByName(Item after, int limit) {
+        List<Item> items = new ArrayList<>(limit);
+        Collection<NameEntry> entries = dictionary.values();
+        if (after == null) {
+            addRows(nullNames, 0, items, limit);
+        } else if (after.getItemName() == null) {
+            addRows(nullNames, nullNames.indexAfter(cursorRow(after)), items, limit);
+        } else {
+            NameEntry current = dictionary.get(after.getItemName());
+            if (current != null) {
+                addRows(current, current.indexAfter(cursorRow(after)), items, limit);
+            }
+            entries = dictionary.tailMap(after.getItemName(), false).values();
+        }
+
+        for (NameEntry entry : entries) {
+            if (items.size() == limit) {
+                break;
+            }
+            addRows(entry, 0, items, limit);
+        }
+        return items;
+    }
+
+    private void addRows(NameEntry entry, int from, List<Item> items, int limit) {
+        for (int i = from; i < entry.count && items.size() < limit; i++) {
+            items.add(view(entry.rows[i]));
+        }
+    }
+
+    private static int cursorRow(Item after) {
+        return (int) Math.max(-1, Math.min(after.getId() - 1, Integer.MAX_VALUE));
+    }
+
+    int dictionarySize() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long sortKey(Integer value, Long id) {
+        int row = (int) Math.max(0, id - 1);
+        return ((value == null ? NULL_SORT_VALUE : value) << 31) | row;
+    }
+
+    private int rowOf(Long id) {
+        if (id == null || id < 1 || id > size) {
+            return -1;
+        }
+        return (int) (id - 1);
+    }
+
+    private static long idOf(int row) {
+        return row + 1L;
+    }
+
+    /**
+     * 사전 항목: 이름의 코드와 그 이름을 가진 행 번호 (오름차순 = id 순)
+     * 새 상품은 항상 가장 큰 행 번호이므로 저장은 보통 배열 끝에 붙이기만 한다.
+     */
+    private static final class NameEntry {
+
+        final int code;
+        int[] rows = new int[1];
+        int count;
+
+        NameEntry(int code) {
+            this.code = code;
+        }
+
+        void add(int row) {
+            int position = indexAfter(row);
+            if (position > 0 && rows[position - 1] == row) {
+                return;
+            }
+            if (count == rows.length) {
+                rows = Arrays.copyOf(rows, count * 2);
+            }
+            System.arraycopy(rows, position, rows, position + 1, count - position);
+            rows[position] = row;
+            count++;
+        }
+
+        void remove(int row) {
+            int position = Arrays.binarySearch(rows, 0, count, row);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(rows, position + 1, rows, position, count - position - 1);
+            count--;
+        }
+
+        /**
+         * row 보다 큰 첫 행의 위치
+         */
+        int indexAfter(int row) {
+            if (count > 0 && rows[count - 1] < row) {
+                return count;
+            }
+            int position = Arrays.binarySearch(rows, 0, count, row);
+            return position >= 0 ? position + 1 : -position - 1;
+        }
+    }
+}
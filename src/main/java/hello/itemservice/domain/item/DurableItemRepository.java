@@ -0,0 +1,191 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 저장소 + 로그 (item.repository.wal.enabled=true)
+ * 조회는 메모리 저장소가 그대로 처리하고, 저장/수정은 로그에 먼저 기록한다. (write-ahead)
+ * 로그가 디스크에 확정(fsync)된 후에 메모리에 반영하므로, 로그 기록에 실패하면 메모리도 바뀌지 않는다.
+ * 시작할 때 스냅샷과 로그를 다시 적용해서 이전 상태를 복구하고, 주기적으로 스냅샷을 남겨서 로그를 짧게 유지한다.
+ */
+@Slf4j
+public class DurableItemRepository implements ItemRepository, AutoCloseable {
+
+    private final MemoryItemRepository delegate;
+    private final ItemLog itemLog;
+    private final ScheduledExecutorService snapshotExecutor;
+
+    /**
+     * 같은 상품의 로그 기록 순서와 메모리 반영 순서가 같도록, 로그 기록(확정까지)과 반영을 id 별 락 안에서 처리한다.
+     * 그룹 커밋은 다른 id 의 쓰기끼리 묶인다.
+     */
+    private final Object[] locks = new Object[64];
+
+    /**
+     * 저장/수정(읽기 락)과 비우기, 세그먼트 전환(쓰기 락)의 순서를 맞춘다.
+     * - 비우기: 진행 중인 저장이 CLEAR 레코드 이전에 기록되고 이후에 반영되는 일이 없도록
+     * - 세그먼트 전환: 이전 세그먼트에 기록된 레코드가 모두 반영된 뒤에 스냅샷을 읽도록
+     */
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    public DurableItemRepository(MemoryItemRepository delegate, Path dir, long snapshotIntervalSeconds) {
+        this.delegate = delegate;
+        this.itemLog = new ItemLog(dir);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+
+        try {
+            long start = System.nanoTime();
+            itemLog.recover(delegate::restore, delegate::clearStore);
+            itemLog.start();
+            log.info("로그 복구 완료 dir={}, elapsedMs={}", dir, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "item-log-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotExecutor.scheduleWithFixedDelay(this::snapshotQuietly,
+                snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public Item save(Item item) {
+        item.setId(delegate.nextId());
+        stateLock.readLock().lock();
+        try {
+            synchronized (lockFor(item.getId())) {
+                itemLog.append(item).join();
+                delegate.restore(item);
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        return item;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public ItemPage findPage(ItemSortType sort, String cursor, int size) {
+        return delegate.findPage(sort, cursor, size);
+    }
+
+    @Override
+    public List<Item> findByNamePrefix(String prefix, int limit) {
+        return delegate.findByNamePrefix(prefix, limit);
+    }
+
+    @Override
+    public List<Item> findByPriceRange(Integer minPrice, Integer maxPrice, int limit) {
+        return delegate.findByPriceRange(minPrice, maxPrice, limit);
+    }
+
+    @Override
+    public List<Item> findByQuantityRange(Integer minQuantity, Integer maxQuantity, int limit) {
+        return delegate.findByQuantityRange(minQuantity, maxQuantity, limit);
+    }
+
+    /**
+     * 수정된 상태를 새 객체로 만들어 기록하고, 확정되면 그 객체로 교체한다. (MemoryItemRepository.update 와 같은 copy-on-write)
+     */
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        stateLock.readLock().lock();
+        try {
+            synchronized (lockFor(itemId)) {
+                if (delegate.findById(itemId) == null) {
+                    return;
+                }
+                Item updateItem = new Item(updateParam.getItemName(), updateParam.getPrice(), updateParam.getQuantity());
+                updateItem.setId(itemId);
+                itemLog.append(updateItem).join();
+                delegate.restore(updateItem);
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long getVersion(Long itemId) {
+        return delegate.getVersion(itemId);
+    }
+
+    @Override
+    public long getStamp() {
+        return delegate.getStamp();
+    }
+
+    @Override
+    public void clearStore() {
+        stateLock.writeLock().lock();
+        try {
+            itemLog.appendClear().join();
+            delegate.clearStore();
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 세그먼트를 전환한 뒤의 전체 상태를 스냅샷으로 남기고, 이전 세그먼트를 정리한다.
+     * 스냅샷을 쓰는 동안에도 저장/수정은 새 세그먼트에 계속 기록된다.
+     */
+    public void snapshot() throws IOException {
+        long segment;
+        stateLock.writeLock().lock();
+        try {
+            segment = itemLog.rotate().join();
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        List<Item> items = delegate.findAll();
+        itemLog.writeSnapshot(segment, items);
+        log.info("스냅샷 저장 segment={}, items={}", segment, items.size());
+    }
+
+    @Override
+    public void close() throws IOException {
+        snapshotExecutor.shutdownNow();
+        itemLog.close();
+    }
+
+    long getCommitCount() {
+        return itemLog.getCommitCount();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.error("스냅샷 저장 실패", e);
+        }
+    }
+
+    private Object lockFor(Long id) {
+        return locks[(int) (id & (locks.length - 1))];
+    }
+}
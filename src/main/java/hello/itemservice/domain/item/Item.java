@@ -8,7 +8,7 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Data
-public class Item {
+public class Item implements PricedItem {
 
 //    @NotNull(groups = UpdateCheck.class)
     private Long id;
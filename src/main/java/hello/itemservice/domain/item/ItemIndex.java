@@ -0,0 +1,98 @@
+package hello.itemservice.domain.item;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+/**
+ * 상품 보조 인덱스
+ * (값, id) 쌍을 정렬된 상태로 보관하므로 범위 조회는 O(log n + k) 로 동작한다.
+ * 값이 null 인 상품도 가장 앞쪽에 정렬해서 보관한다. (목록 정렬과 같은 순서)
+ */
+class ItemIndex<K extends Comparable<K>> {
+
+    private final Function<Item, K> keyExtractor;
+    private final ConcurrentSkipListSet<Entry<K>> entries = new ConcurrentSkipListSet<>();
+
+    ItemIndex(Function<Item, K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    void add(Item item) {
+        entries.add(entryOf(item));
+    }
+
+    void remove(Item item) {
+        entries.remove(entryOf(item));
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * from 이상 to 이하 (같은 값이면 모든 id 포함)
+     */
+    NavigableSet<Entry<K>> range(K from, K to) {
+        if (from.compareTo(to) > 0) {
+            return Collections.emptyNavigableSet();
+        }
+        return entries.subSet(new Entry<>(from, Long.MIN_VALUE), true, new Entry<>(to, Long.MAX_VALUE), true);
+    }
+
+    /**
+     * from 이상의 모든 값
+     */
+    NavigableSet<Entry<K>> tail(K from) {
+        return entries.tailSet(new Entry<>(from, Long.MIN_VALUE), true);
+    }
+
+    /**
+     * 커서(item) 바로 다음 위치부터
+     */
+    NavigableSet<Entry<K>> after(Item cursor) {
+        return cursor == null ? entries : entries.tailSet(entryOf(cursor), false);
+    }
+
+    /**
+     * 인덱스 항목이 현재 상품 상태와 일치하는지 확인
+     * 수정 도중에 인덱스를 읽으면 이전 값의 항목이 잠깐 보일 수 있으므로 조회 결과를 한 번 더 검증한다.
+     */
+    boolean matches(Item item, Entry<K> entry) {
+        return item != null && Objects.equals(keyExtractor.apply(item), entry.key);
+    }
+
+    private Entry<K> entryOf(Item item) {
+        return new Entry<>(keyExtractor.apply(item), item.getId());
+    }
+
+    static class Entry<K extends Comparable<K>> implements Comparable<Entry<K>> {
+
+        final K key;
+        final long id;
+
+        Entry(K key, long id) {
+            this.key = key;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Entry<K> other) {
+            if (key != other.key) {
+                if (key == null) {
+                    return -1;
+                }
+                if (other.key == null) {
+                    return 1;
+                }
+                int result = key.compareTo(other.key);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 상품 저장소의 추가 전용 로그 (write-ahead log)
+ *
+ * 파일 구성 (dir 아래)
+ * - log-{번호}.dat      : 세그먼트, 저장/수정된 상품의 전체 상태를 레코드로 계속 덧붙인다.
+ * - snapshot-{번호}.dat : 세그먼트 {번호} 이전까지의 상태를 모은 스냅샷, 임시 파일에 다 쓴 뒤 이름을 바꾸므로 항상 완전한 파일만 남는다.
+ *
+ * 레코드 형식: [길이 int][CRC32 int][내용]
+ * 복구할 때 가장 최근 세그먼트 끝의 쓰다 만 레코드만 잘라낸다.
+ * 그 밖의 위치(스냅샷, 이전 세그먼트, 최근 세그먼트의 중간)에서 손상된 레코드를 만나면 확정된 레코드를 잃지 않도록 시작을 중단한다.
+ *
+ * 그룹 커밋: 쓰기 요청은 큐에 쌓이고, 전용 스레드가 큐에 모인 레코드를 한 번에 쓴 뒤 fsync(force) 한 번으로 함께 확정한다.
+ * 쓰기에 한 번 실패하면 세그먼트 중간에 쓰다 만 레코드가 남을 수 있으므로 그 뒤로는 더 쓰지 않고 모든 요청을 실패시킨다.
+ */
+@Slf4j
+class ItemLog implements Closeable {
+
+    private static final Pattern SEGMENT = Pattern.compile("log-(\\d+)\\.dat");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.dat");
+
+    private static final byte PUT = 1;
+    private static final byte CLEAR = 2;
+
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final int MAX_BATCH = 4096;
+    private static final int QUEUE_CAPACITY = 65536;
+
+    private final Path dir;
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong commitCount = new AtomicLong();
+
+    private Thread writer;
+    private FileChannel channel;
+    private long segment;
+
+    /**
+     * 쓰기 실패 원인, 한 번 실패하면 이후의 쓰기 요청은 모두 이 예외로 실패한다.
+     */
+    private volatile UncheckedIOException failure;
+
+    ItemLog(Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * 최신 스냅샷을 읽고, 그 이후 세그먼트를 순서대로 다시 적용한다.
+     * 마지막 세그먼트 끝에 쓰다 만 레코드가 있으면 잘라낸다. 다른 위치가 손상되었으면 IOException
+     */
+    void recover(Consumer<Item> restorer, Runnable clearer) throws IOException {
+        Files.createDirectories(dir);
+
+        long snapshot = latest(SNAPSHOT);
+        if (snapshot >= 0) {
+            Path path = snapshotPath(snapshot);
+            long valid = replay(path, restorer, clearer);
+            if (valid < Files.size(path)) {
+                throw corrupted(path, valid);
+            }
+        }
+
+        List<Long> segments = numbers(SEGMENT);
+        for (int i = 0; i < segments.size(); i++) {
+            long number = segments.get(i);
+            if (number < snapshot) {
+                continue;
+            }
+            Path path = segmentPath(number);
+            long valid = replay(path, restorer, clearer);
+            if (valid == Files.size(path)) {
+                continue;
+            }
+            if (i < segments.size() - 1 || !isTornTail(path, valid)) {
+                throw corrupted(path, valid);
+            }
+            log.warn("로그 끝의 쓰다 만 레코드를 잘라냄 file={}, validBytes={}", path, valid);
+            try (FileChannel truncate = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                truncate.truncate(valid);
+                truncate.force(true);
+            }
+        }
+
+        segment = Math.max(snapshot, segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1);
+    }
+
+    /**
+     * 새 세그먼트를 열고 쓰기 스레드를 시작한다. (recover 이후에 호출)
+     */
+    void start() throws IOException {
+        channel = openSegment(segment);
+        writer = new Thread(this::writeLoop, "item-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 상품의 현재 상태를 레코드로 추가한다.
+     * 호출한 스레드에서 바로 직렬화하므로 이후에 item 이 바뀌어도 기록되는 값은 달라지지 않는다.
+     * 반환된 future 는 fsync 까지 끝나면 완료된다.
+     */
+    CompletableFuture<Long> append(Item item) {
+        return submit(new Request(encode(item)));
+    }
+
+    CompletableFuture<Long> appendClear() {
+        return submit(new Request(frame(new byte[]{CLEAR})));
+    }
+
+    /**
+     * 새 세그먼트로 전환한다. future 의 값은 새 세그먼트 번호
+     * 전환 이전에 요청된 레코드는 모두 이전 세그먼트에 기록된다.
+     */
+    CompletableFuture<Long> rotate() {
+        return submit(Request.rotation());
+    }
+
+    /**
+     * segment 번호부터 다시 적용하면 되는 스냅샷을 기록하고, 필요 없어진 이전 세그먼트와 스냅샷을 지운다.
+     * items 는 rotate() 완료 이후에 읽은 상태여야 한다.
+     */
+    void writeSnapshot(long segment, Collection<Item> items) throws IOException {
+        Path temp = dir.resolve("snapshot-" + segment + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Item item : items) {
+                ByteBuffer record = encode(item);
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+            out.force(true);
+        }
+        Files.move(temp, snapshotPath(segment), StandardCopyOption.ATOMIC_MOVE);
+
+        for (long number : numbers(SNAPSHOT)) {
+            if (number < segment) {
+                Files.deleteIfExists(snapshotPath(number));
+            }
+        }
+        for (long number : numbers(SEGMENT)) {
+            if (number < segment) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+    }
+
+    /**
+     * fsync 횟수 (그룹 커밋이 얼마나 묶였는지 확인용)
+     */
+    long getCommitCount() {
+        return commitCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        submit(Request.closing()).join();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    private CompletableFuture<Long> submit(Request request) {
+        if (failure != null && request.type != Request.Type.CLOSE) {
+            request.future.completeExceptionally(failure);
+            return request.future;
+        }
+        try {
+            queue.put(request); // 큐가 가득 차면 쓰기 요청 쪽이 기다린다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.future.completeExceptionally(e);
+        }
+        return request.future;
+    }
+
+    private void writeLoop() {
+        List<Request> batch = new ArrayList<>();
+        boolean closed = false;
+
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            if (failure != null) {
+                closed = reject(batch);
+                batch.clear();
+                continue;
+            }
+
+            List<Request> committed = new ArrayList<>(batch.size());
+            try {
+                for (Request request : batch) {
+                    if (request.type == Request.Type.RECORD) {
+                        while (request.record.hasRemaining()) {
+                            channel.write(request.record);
+                        }
+                        committed.add(request);
+                        continue;
+                    }
+
+                    // 세그먼트 전환, 종료 전에 지금까지 쓴 레코드를 확정한다.
+                    commit(committed);
+                    if (request.type == Request.Type.ROTATE) {
+                        channel.close();
+                        channel = openSegment(++segment);
+                        request.future.complete(segment);
+                    } else {
+                        channel.close();
+                        request.future.complete(segment);
+                        closed = true;
+                    }
+                }
+                commit(committed);
+            } catch (IOException e) {
+                log.error("로그 쓰기 실패, 이후의 쓰기 요청은 모두 실패한다.", e);
+                failure = new UncheckedIOException(e);
+                closeQuietly();
+                closed = reject(batch); // 이미 확정된 요청의 future 는 바뀌지 않는다.
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 쓰기 실패 이후의 요청 처리, 종료 요청이 있으면 true
+     */
+    private boolean reject(List<Request> batch) {
+        boolean closing = false;
+        for (Request request : batch) {
+            if (request.type == Request.Type.CLOSE) {
+                request.future.complete(segment);
+                closing = true;
+            } else {
+                request.future.completeExceptionally(failure);
+            }
+        }
+        return closing;
+    }
+
+    private void closeQuietly() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("로그 세그먼트 닫기 실패", e);
+        }
+    }
+
+    private void commit(List<Request> committed) throws IOException {
+        if (committed.isEmpty()) {
+            return;
+        }
+        channel.force(false);
+        commitCount.incrementAndGet();
+        for (Request request : committed) {
+            request.future.complete(segment);
+        }
+        committed.clear();
+    }
+
+    /**
+     * 손상되지 않은 레코드를 순서대로 적용하고, 적용한 바이트 수를 반환한다. (파일 크기보다 작으면 그 위치의 레코드가 손상됨)
+     */
+    private long replay(Path path, Consumer<Item> restorer, Runnable clearer) throws IOException {
+        long size = Files.size(path);
+        long valid = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            while (size - valid >= 8) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE || length > size - valid - 8) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+
+                if (checksum != checksum(payload)) {
+                    break;
+                }
+                if (payload[0] == CLEAR) {
+                    clearer.run();
+                } else {
+                    restorer.accept(decode(payload));
+                }
+                valid += 8 + payload.length;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * valid 위치의 손상된 레코드가 쓰다 만 마지막 레코드인지 확인한다.
+     * - 헤더가 잘렸거나, 레코드가 파일 끝까지 이어짐 (내용 일부만 기록됨)
+     * - 뒷부분이 모두 0 (파일 크기만 늘어나고 내용은 기록되지 않음)
+     * 손상된 레코드 뒤에 다른 내용이 있으면 쓰다 만 레코드가 아니라 손상이다.
+     */
+    private boolean isTornTail(Path path, long valid) throws IOException {
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            long remaining = in.size() - valid;
+            if (remaining < 8) {
+                return true;
+            }
+            ByteBuffer header = ByteBuffer.allocate(8);
+            while (header.hasRemaining()) {
+                in.read(header, valid + header.position()); // 남은 크기가 8 바이트 이상이다.
+            }
+            int length = header.getInt(0);
+            if (length > 0 && length <= MAX_RECORD_SIZE && length >= remaining - 8) {
+                return true;
+            }
+
+            ByteBuffer rest = ByteBuffer.allocate(1 << 16);
+            for (long position = valid; position < in.size(); position += rest.limit()) {
+                rest.clear();
+                if (in.read(rest, position) < 0) {
+                    break;
+                }
+                rest.flip();
+                while (rest.hasRemaining()) {
+                    if (rest.get() != 0) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private static IOException corrupted(Path path, long valid) {
+        return new IOException("로그 파일이 손상되었습니다. 확정된 레코드를 잃지 않도록 복구를 중단합니다. file=" + path + ", offset=" + valid);
+    }
+
+    static ByteBuffer encode(Item item) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(PUT);
+            out.writeLong(item.getId());
+            if (item.getItemName() == null) {
+                out.writeInt(-1);
+            } else {
+                byte[] name = item.getItemName().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+            }
+            writeNullableInt(out, item.getPrice());
+            writeNullableInt(out, item.getQuantity());
+            return frame(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // ByteArrayOutputStream 은 IOException 이 발생하지 않는다.
+        }
+    }
+
+    static Item decode(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload, 1, payload.length - 1);
+        long id = in.getLong();
+
+        String itemName = null;
+        int nameLength = in.getInt();
+        if (nameLength >= 0) {
+            byte[] name = new byte[nameLength];
+            in.get(name);
+            itemName = new String(name, StandardCharsets.UTF_8);
+        }
+        Integer price = in.get() == 0 ? null : in.getInt();
+        Integer quantity = in.get() == 0 ? null : in.getInt();
+
+        Item item = new Item(itemName, price, quantity);
+        item.setId(id);
+        return item;
+    }
+
+    private static void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static ByteBuffer frame(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + payload.length);
+        buffer.putInt(payload.length).putInt(checksum(payload)).put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long number) {
+        return dir.resolve("log-" + number + ".dat");
+    }
+
+    private Path snapshotPath(long number) {
+        return dir.resolve("snapshot-" + number + ".dat");
+    }
+
+    private long latest(Pattern pattern) throws IOException {
+        List<Long> numbers = numbers(pattern);
+        return numbers.isEmpty() ? -1 : numbers.get(numbers.size() - 1);
+    }
+
+    private List<Long> numbers(Pattern pattern) throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    numbers.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+
+    private static class Request {
+
+        enum Type {RECORD, ROTATE, CLOSE}
+
+        final Type type;
+        final ByteBuffer record;
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        Request(ByteBuffer record) {
+            this(Type.RECORD, record);
+        }
+
+        private Request(Type type, ByteBuffer record) {
+            this.type = type;
+            this.record = record;
+        }
+
+        static Request rotation() {
+            return new Request(Type.ROTATE, null);
+        }
+
+        static Request closing() {
+            return new Request(Type.CLOSE, null);
+        }
+    }
+}
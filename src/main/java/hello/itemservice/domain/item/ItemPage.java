@@ -0,0 +1,34 @@
+package hello.itemservice.domain.item;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 조회 결과
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+@Getter
+public class ItemPage {
+
+    public static final int MAX_SIZE = 100;
+
+    private final List<Item> items;
+    private final String nextCursor;
+
+    public ItemPage(List<Item> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 범위로 맞춘다.
+     */
+    public static int sizeOf(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
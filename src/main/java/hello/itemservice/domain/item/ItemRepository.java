@@ -1,41 +1,77 @@
 package hello.itemservice.domain.item;
 
-import org.springframework.stereotype.Repository;
-
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 
-@Repository
-public class ItemRepository {
+/**
+ * 상품 저장소
+ * 구현체는 item.repository.type 설정으로 선택한다. (memory: MemoryItemRepository, columnar: ColumnarItemRepository)
+ */
+public interface ItemRepository {
 
-    private static final Map<Long, Item> store = new HashMap<>(); //static
-    private static long sequence = 0L; //static
+    Item save(Item item);
 
-    public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
-        return item;
-    }
+    Item findById(Long id);
 
-    public Item findById(Long id) {
-        return store.get(id);
-    }
+    List<Item> findAll();
 
-    public List<Item> findAll() {
-        return new ArrayList<>(store.values());
-    }
+    /**
+     * 커서(keyset) 기반 페이지 조회, 첫 페이지는 cursor = null
+     */
+    ItemPage findPage(ItemSortType sort, String cursor, int size);
 
-    public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
-    }
+    List<Item> findByNamePrefix(String prefix, int limit);
 
-    public void clearStore() {
-        store.clear();
-    }
+    List<Item> findByPriceRange(Integer minPrice, Integer maxPrice, int limit);
+
+    List<Item> findByQuantityRange(Integer minQuantity, Integer maxQuantity, int limit);
+
+    void update(Long itemId, Item updateParam);
 
+    void clearStore();
+
+    /**
+     * 상품 버전, 저장/수정할 때마다 커진다. (저장된 적 없는 상품은 0)
+     * 데이터를 바꾼 뒤에 버전을 올리므로 조회하는 쪽은 버전을 먼저 읽고 데이터를 읽어야 한다.
+     */
+    long getVersion(Long itemId);
+
+    /**
+     * 저장소 전체 변경 스탬프, 저장/수정/비우기마다 커진다. (목록 페이지의 ETag, Last-Modified 용)
+     * 값은 밀리초 시각 기반이다.
+     */
+    long getStamp();
+
+    /**
+     * 목록을 chunkSize 단위의 페이지로 나눠서 순회하는 Iterable
+     * 뷰(th:each)가 순회하는 만큼만 다음 페이지를 가져오므로 전체 목록을 한 번에 메모리에 올리지 않는다.
+     */
+    default Iterable<Item> iterate(ItemSortType sort, int chunkSize) {
+        return () -> new Iterator<Item>() {
+
+            private ItemPage page = findPage(sort, null, chunkSize);
+            private Iterator<Item> current = page.getItems().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (!page.hasNext()) {
+                        return false;
+                    }
+                    page = findPage(sort, page.getNextCursor(), chunkSize);
+                    current = page.getItems().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public Item next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
 }
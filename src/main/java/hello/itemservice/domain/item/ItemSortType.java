@@ -0,0 +1,85 @@
+package hello.itemservice.domain.item;
+
+import java.util.Comparator;
+
+/**
+ * 상품 목록 정렬 기준
+ * 같은 값이 여러 개일 수 있으므로 항상 id 를 보조 정렬 키로 사용한다. (커서 위치가 하나로 정해지도록)
+ */
+public enum ItemSortType {
+
+    ID(Comparator.comparing(Item::getId)),
+    PRICE(Comparator.comparing(Item::getPrice, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+            .thenComparing(Item::getId)),
+    NAME(Comparator.comparing(Item::getItemName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(Item::getId));
+
+    private final Comparator<Item> comparator;
+
+    ItemSortType(Comparator<Item> comparator) {
+        this.comparator = comparator;
+    }
+
+    public Comparator<Item> comparator() {
+        return comparator;
+    }
+
+    /**
+     * 커서 형식: "{id}" 또는 "{id}:{정렬 값}"
+     * 정렬 값이 null 이면 id 만 남긴다. 이름에 ':' 가 있어도 첫 번째 ':' 로만 나누므로 문제 없다.
+     */
+    public String cursorOf(Item item) {
+        Object value = sortValue(item);
+        return value == null ? String.valueOf(item.getId()) : item.getId() + ":" + value;
+    }
+
+    /**
+     * 커서를 비교용 Item 으로 되돌린다.
+     * 잘못된 커서는 null 을 반환해서 첫 페이지부터 조회하게 한다.
+     */
+    public Item parseCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        int separator = cursor.indexOf(':');
+        String id = separator < 0 ? cursor : cursor.substring(0, separator);
+        String value = separator < 0 ? null : cursor.substring(separator + 1);
+
+        try {
+            Item probe = new Item();
+            probe.setId(Long.parseLong(id));
+            if (this == PRICE && value != null) {
+                probe.setPrice(Integer.parseInt(value));
+            } else if (this == NAME) {
+                probe.setItemName(value);
+            }
+            return probe;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Object sortValue(Item item) {
+        switch (this) {
+            case PRICE:
+                return item.getPrice();
+            case NAME:
+                return item.getItemName();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 요청 파라미터(id, price, name)를 정렬 기준으로 변환, 알 수 없는 값은 id 정렬
+     */
+    public static ItemSortType from(String name) {
+        for (ItemSortType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return ID;
+    }
+}
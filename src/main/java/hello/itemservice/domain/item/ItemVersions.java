@@ -0,0 +1,51 @@
+package hello.itemservice.domain.item;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 버전과 저장소 전체 변경 스탬프 (조건부 요청의 ETag, Last-Modified 용)
+ *
+ * 스탬프는 현재 시각(밀리초)을 기준으로 하되 항상 이전 값보다 커지도록 발급한다. (같은 밀리초면 +1)
+ * - 시각이므로 Last-Modified 로 그대로 사용할 수 있다.
+ * - 재시작해도 이전에 발급한 값보다 커지므로 이전 ETag 와 겹치지 않는다.
+ *
+ * 데이터를 바꾼 "뒤에" touch 해야 한다.
+ * 버전을 먼저 올리면 새 버전과 이전 데이터로 만든 응답이 캐시되어 이후 요청이 잘못된 304 를 받을 수 있다.
+ */
+class ItemVersions {
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong stamp = new AtomicLong();
+
+    long touch(Long itemId) {
+        long version = next();
+        versions.put(itemId, version);
+        return version;
+    }
+
+    /**
+     * 저장된 적 없는 상품은 0
+     */
+    long get(Long itemId) {
+        Long version = versions.get(itemId);
+        return version == null ? 0 : version;
+    }
+
+    long stamp() {
+        return stamp.get();
+    }
+
+    /**
+     * 상품별 버전은 지우고 전체 스탬프는 올린다. (비운 목록도 이전 목록과 다른 ETag 를 갖도록)
+     */
+    void clear() {
+        versions.clear();
+        next();
+    }
+
+    private long next() {
+        return stamp.updateAndGet(prev -> Math.max(System.currentTimeMillis(), prev + 1));
+    }
+}
@@ -0,0 +1,253 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기본 메모리 저장소 (ItemRepositoryConfig 에서 빈으로 등록)
+ */
+public class MemoryItemRepository implements ItemRepository {
+
+    /**
+     * 여러 요청(스레드)이 동시에 접근하므로 lock-free 구조를 사용한다.
+     * ConcurrentSkipListMap 은 락 없이 CAS 로 동작하고, id 순서도 유지된다.
+     */
+    private static final ConcurrentNavigableMap<Long, Item> store = new ConcurrentSkipListMap<>(); //static
+    private static final AtomicLong sequence = new AtomicLong(); //static
+
+    /**
+     * 보조 인덱스 (이름 접두사, 가격 범위, 수량 범위 조회용)
+     */
+    private static final ItemIndex<String> nameIndex = new ItemIndex<>(Item::getItemName); //static
+    private static final ItemIndex<Integer> priceIndex = new ItemIndex<>(Item::getPrice); //static
+    private static final ItemIndex<Integer> quantityIndex = new ItemIndex<>(Item::getQuantity); //static
+
+    /**
+     * 상품별 버전과 전체 변경 스탬프 (조건부 요청용), 데이터를 바꾼 뒤에 올린다.
+     */
+    private static final ItemVersions versions = new ItemVersions(); //static
+
+    /**
+     * 같은 상품에 대한 쓰기(store + 인덱스 변경)는 id 별 락으로 직렬화한다.
+     * 락을 id 개수만큼 만들지 않고 고정된 개수로 나눠서(striping) 사용한다. 읽기는 락을 잡지 않는다.
+     */
+    private static final Object[] locks = new Object[64]; //static
+
+    static {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Item save(Item item) {
+        item.setId(sequence.incrementAndGet()); // id 발급은 원자적으로 (중복 id 방지)
+        synchronized (lockFor(item.getId())) {
+            store.put(item.getId(), item);
+            addIndex(item);
+            versions.touch(item.getId());
+        }
+        return item;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return new ArrayList<>(store.values());
+    }
+
+    /**
+     * 커서(keyset) 기반 페이지 조회
+     * cursor 는 이전 페이지의 ItemPage.nextCursor 를 그대로 넘긴다. (첫 페이지는 null)
+     * 다음 페이지 존재 여부를 알기 위해 size + 1 개를 조회한다.
+     */
+    @Override
+    public ItemPage findPage(ItemSortType sort, String cursor, int size) {
+        int pageSize = ItemPage.sizeOf(size);
+        Item after = sort.parseCursor(cursor);
+
+        List<Item> items;
+        switch (sort) {
+            case PRICE:
+                items = collect(priceIndex, priceIndex.after(after), pageSize + 1);
+                break;
+            case NAME:
+                items = collect(nameIndex, nameIndex.after(after), pageSize + 1);
+                break;
+            default:
+                items = pageById(after, pageSize + 1);
+        }
+
+        if (items.size() <= pageSize) {
+            return new ItemPage(items, null);
+        }
+        items.remove(pageSize);
+        return new ItemPage(items, sort.cursorOf(items.get(pageSize - 1)));
+    }
+
+    /**
+     * 상품명 접두사 검색 (이름 순)
+     * prefix 가 null 이면 빈 문자열과 같다. (이름이 있는 모든 상품, 범위 검색의 null 과 같이 제한 없음)
+     */
+    @Override
+    public List<Item> findByNamePrefix(String prefix, int limit) {
+        String namePrefix = prefix == null ? "" : prefix;
+        int pageSize = ItemPage.sizeOf(limit);
+        List<Item> items = new ArrayList<>(pageSize);
+        for (ItemIndex.Entry<String> entry : nameIndex.tail(namePrefix)) {
+            if (items.size() == pageSize || !entry.key.startsWith(namePrefix)) {
+                break;
+            }
+            Item item = store.get(entry.id);
+            if (nameIndex.matches(item, entry)) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 가격 범위 검색 (가격 순), 범위 값이 null 이면 제한 없음
+     */
+    @Override
+    public List<Item> findByPriceRange(Integer minPrice, Integer maxPrice, int limit) {
+        return collect(priceIndex, priceIndex.range(lowerBound(minPrice), upperBound(maxPrice)), ItemPage.sizeOf(limit));
+    }
+
+    /**
+     * 수량 범위 검색 (수량 순), 재고 부족 상품 조회 등에 사용
+     */
+    @Override
+    public List<Item> findByQuantityRange(Integer minQuantity, Integer maxQuantity, int limit) {
+        return collect(quantityIndex, quantityIndex.range(lowerBound(minQuantity), upperBound(maxQuantity)), ItemPage.sizeOf(limit));
+    }
+
+    /**
+     * 저장된 객체를 직접 수정하지 않고 새 객체로 교체한다. (copy-on-write)
+     * 같은 상품을 동시에 수정해도 필드가 섞이지 않고, 읽는 쪽은 항상 완성된 상태만 보게 된다.
+     * 교체와 인덱스 갱신은 같은 id 락 안에서 처리한다.
+     */
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        synchronized (lockFor(itemId)) {
+            Item findItem = findById(itemId);
+            if (findItem == null) {
+                return;
+            }
+
+            Item updateItem = new Item(updateParam.getItemName(), updateParam.getPrice(), updateParam.getQuantity());
+            updateItem.setId(itemId);
+            store.put(itemId, updateItem);
+
+            removeIndex(findItem);
+            addIndex(updateItem);
+            versions.touch(itemId);
+        }
+    }
+
+    /**
+     * 로그 저장소용, id 를 먼저 발급받아 로그에 기록한 뒤 restore 로 반영한다.
+     */
+    long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    /**
+     * 로그 복구용, 전달받은 id 그대로 저장하고 id 발급 순번을 맞춘다.
+     */
+    void restore(Item item) {
+        synchronized (lockFor(item.getId())) {
+            Item findItem = store.put(item.getId(), item);
+            if (findItem != null) {
+                removeIndex(findItem);
+            }
+            addIndex(item);
+            versions.touch(item.getId());
+        }
+        sequence.accumulateAndGet(item.getId(), Math::max);
+    }
+
+    /**
+     * store 는 id 순서로 정렬되어 있으므로 커서 다음 위치부터 limit 개만 꺼낸다.
+     */
+    private List<Item> pageById(Item after, int limit) {
+        Collection<Item> values = after == null ? store.values() : store.tailMap(after.getId(), false).values();
+        List<Item> items = new ArrayList<>(limit);
+        for (Item item : values) {
+            if (items.size() == limit) {
+                break;
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * 인덱스 항목을 순서대로 읽으면서 현재 상태와 일치하는 상품만 limit 개 모은다.
+     */
+    private <K extends Comparable<K>> List<Item> collect(ItemIndex<K> index, Iterable<ItemIndex.Entry<K>> entries, int limit) {
+        List<Item> items = new ArrayList<>(limit);
+        for (ItemIndex.Entry<K> entry : entries) {
+            if (items.size() == limit) {
+                break;
+            }
+            Item item = store.get(entry.id);
+            if (index.matches(item, entry)) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    @Override
+    public long getVersion(Long itemId) {
+        return versions.get(itemId);
+    }
+
+    @Override
+    public long getStamp() {
+        return versions.stamp();
+    }
+
+    private void addIndex(Item item) {
+        nameIndex.add(item);
+        priceIndex.add(item);
+        quantityIndex.add(item);
+    }
+
+    private void removeIndex(Item item) {
+        nameIndex.remove(item);
+        priceIndex.remove(item);
+        quantityIndex.remove(item);
+    }
+
+    private static Integer lowerBound(Integer value) {
+        return value == null ? Integer.MIN_VALUE : value;
+    }
+
+    private static Integer upperBound(Integer value) {
+        return value == null ? Integer.MAX_VALUE : value;
+    }
+
+    private static Object lockFor(Long id) {
+        return locks[(int) (id & (locks.length - 1))];
+    }
+
+    @Override
+    public void clearStore() {
+        store.clear();
+        nameIndex.clear();
+        priceIndex.clear();
+        quantityIndex.clear();
+        versions.clear();
+    }
+
+}
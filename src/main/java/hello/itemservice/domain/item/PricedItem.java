@@ -0,0 +1,9 @@
+package hello.itemservice.domain.item;
+
+// 가격과 수량을 가진 대상 (Item, ItemSaveForm, ItemUpdateForm), 복합 룰(totalPriceMin)을 한 번만 선언하기 위해 사용
+public interface PricedItem {
+
+    Integer getPrice();
+
+    Integer getQuantity();
+}
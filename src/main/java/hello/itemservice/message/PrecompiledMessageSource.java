@@ -0,0 +1,198 @@
+package hello.itemservice.message;
+
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.util.ObjectUtils;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 코드 목록 -> 최종 메시지 캐시
+ *
+ * 오류 메시지는 required.item.itemName, required.itemName, required.java.lang.String, required 처럼
+ * 코드 목록을 앞에서부터 찾는다. 앞 코드가 없으면 그만큼 properties 를 여러 번 조회하게 된다.
+ * 이 클래스는 (코드 목록, 로케일) 별로 처음 찾은 결과(원문 메시지, MessageFormat)를 기억해 두고 다음부터 바로 사용한다.
+ *
+ * - 로케일 -> 불변(immutable) Map 을 ConcurrentHashMap 에 둔다. 조회는 락 없이 Map 을 읽기만 한다.
+ * - 새 항목은 그 로케일의 Map 만 복사해서 추가한 뒤 교체한다. (코드 목록의 종류는 폼 필드 수만큼으로 한정된다)
+ * - 로케일은 클라이언트(Accept-Language)가 정하므로 종류가 한정되지 않는다.
+ *   MAX_LOCALES 개를 넘으면 기존 로케일 하나를 버린다. (버린 로케일은 다음 조회 때 다시 계산한다)
+ * - reload() 는 properties 캐시를 비운 뒤 이 캐시를 새 Map 으로 바꾼다. 이전 Map 에 늦게 저장된 결과는 버려진다.
+ * - spring.messages.cache-duration 이 있으면 그 주기마다 이 캐시도 비워서 변경된 properties 를 다시 읽는다.
+ * - 찾지 못한 코드(기본 메시지 사용, NoSuchMessageException)는 캐시하지 않고 상위 구현에 맡긴다.
+ */
+public class PrecompiledMessageSource extends ReloadableResourceBundleMessageSource {
+
+    static final int MAX_LOCALES = 32;
+
+    private volatile ConcurrentHashMap<Locale, Map<CodeChain, Resolved>> cache = new ConcurrentHashMap<>();
+    private volatile long cachedAt = System.currentTimeMillis();
+
+    @Override
+    public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
+        Resolved resolved = code == null ? null : resolve(new String[]{code}, locale);
+        return resolved == null ? super.getMessage(code, args, defaultMessage, locale) : format(resolved, args, locale);
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, Locale locale) throws NoSuchMessageException {
+        Resolved resolved = code == null ? null : resolve(new String[]{code}, locale);
+        return resolved == null ? super.getMessage(code, args, locale) : format(resolved, args, locale);
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+        String[] codes = resolvable.getCodes();
+        Resolved resolved = ObjectUtils.isEmpty(codes) ? null : resolve(codes, locale);
+        return resolved == null ? super.getMessage(resolvable, locale) : format(resolved, resolvable.getArguments(), locale);
+    }
+
+    /**
+     * messages, errors 를 다시 읽는다. 조회 중인 요청은 막지 않는다.
+     */
+    public void reload() {
+        clearCache();
+    }
+
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        reset();
+    }
+
+    private void reset() {
+        cache = new ConcurrentHashMap<>();
+        cachedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 캐시에 있는 로케일 수 (테스트용)
+     */
+    int cachedLocales() {
+        return cache.size();
+    }
+
+    private Resolved resolve(String[] codes, Locale locale) {
+        long cacheMillis = getCacheMillis();
+        if (cacheMillis >= 0 && System.currentTimeMillis() - cachedAt > cacheMillis) {
+            reset();
+        }
+
+        Locale localeToUse = locale == null ? Locale.getDefault() : locale;
+        CodeChain key = new CodeChain(codes);
+
+        ConcurrentHashMap<Locale, Map<CodeChain, Resolved>> current = cache;
+        Map<CodeChain, Resolved> messages = current.get(localeToUse);
+        Resolved resolved = messages == null ? null : messages.get(key);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        resolved = compile(codes, localeToUse);
+        if (resolved != null) {
+            publish(current, localeToUse, key, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * 코드 목록 중 처음 찾은 메시지를 원문과 MessageFormat 으로 준비한다.
+     */
+    private Resolved compile(String[] codes, Locale locale) {
+        for (String code : codes) {
+            String message = resolveCodeWithoutArguments(code, locale);
+            if (message != null) {
+                return new Resolved(message, resolveCode(code, locale));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 계산 중에 reload 되었으면 current 는 이미 버려진 Map 이므로 저장해도 보이지 않는다.
+     * 락은 로케일(ConcurrentHashMap 의 해당 bin) 단위로만 잡는다.
+     */
+    private void publish(ConcurrentHashMap<Locale, Map<CodeChain, Resolved>> current,
+                         Locale locale, CodeChain key, Resolved resolved) {
+        if (!current.containsKey(locale) && current.size() >= MAX_LOCALES) {
+            evictOne(current);
+        }
+        current.compute(locale, (ignored, messages) -> {
+            if (messages != null && messages.containsKey(key)) {
+                return messages;
+            }
+            Map<CodeChain, Resolved> newMessages = messages == null ? new HashMap<>() : new HashMap<>(messages);
+            newMessages.put(key.copy(), resolved);
+            return Collections.unmodifiableMap(newMessages);
+        });
+    }
+
+    private void evictOne(ConcurrentHashMap<Locale, Map<CodeChain, Resolved>> current) {
+        Iterator<Locale> locales = current.keySet().iterator();
+        if (locales.hasNext()) {
+            locales.next();
+            locales.remove();
+        }
+    }
+
+    /**
+     * AbstractMessageSource 와 같은 규칙으로 만든다.
+     * 인자가 없으면 원문 그대로, 있으면 인자(MessageSourceResolvable 포함)를 먼저 해석한 뒤 MessageFormat 으로 만든다.
+     */
+    private String format(Resolved resolved, Object[] args, Locale locale) {
+        if (!isAlwaysUseMessageFormat() && ObjectUtils.isEmpty(args)) {
+            return resolved.message;
+        }
+        Object[] argsToUse = resolveArguments(args, locale == null ? Locale.getDefault() : locale);
+        if (resolved.format == null) {
+            return resolved.message;
+        }
+        synchronized (resolved.format) {
+            return resolved.format.format(argsToUse);
+        }
+    }
+
+    private static final class Resolved {
+
+        final String message;
+        final MessageFormat format;
+
+        Resolved(String message, MessageFormat format) {
+            this.message = message;
+            this.format = format;
+        }
+    }
+
+    private static final class CodeChain {
+
+        private final String[] codes;
+        private final int hash;
+
+        CodeChain(String[] codes) {
+            this.codes = codes;
+            this.hash = Arrays.hashCode(codes);
+        }
+
+        CodeChain copy() {
+            return new CodeChain(codes.clone());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof CodeChain && Arrays.equals(codes, ((CodeChain) o).codes));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
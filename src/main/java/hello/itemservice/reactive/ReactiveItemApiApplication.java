@@ -0,0 +1,42 @@
+package hello.itemservice.reactive;
+
+import hello.itemservice.config.MessageCodesResolverConfig;
+import hello.itemservice.config.MessageSourceConfig;
+import hello.itemservice.web.validation.ValidationMetrics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * /validation/api/items/add 의 WebFlux(논블로킹) 버전
+ *
+ * MVC 애플리케이션(ItemServiceApplication)과 같은 폼, 검증, 메시지를 사용하고 별도 서버(기본 8081, Netty)로 실행한다.
+ * 실행: ./gradlew bootRunReactive
+ *
+ * MVC 애플리케이션의 컴포넌트 스캔에도 이 패키지가 포함되므로, 이 패키지의 빈은 REACTIVE 애플리케이션일 때만 등록한다.
+ * 컴포넌트 스캔은 이 패키지만 하므로, MVC 와 같은 메시지 소스(PrecompiledMessageSource), 오류 코드 생성기, 검증 지표는 직접 가져온다.
+ */
+@SpringBootApplication
+@Import({MessageSourceConfig.class, MessageCodesResolverConfig.class, ValidationMetrics.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemApiApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveItemApiApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("server.port=${reactive.server.port:8081}")
+                .run(args);
+    }
+
+    /**
+     * spring-boot-starter-web 의 Tomcat 도 클래스패스에 있으므로 Netty 를 명시한다.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,89 @@
+package hello.itemservice.reactive;
+
+import hello.itemservice.web.validation.FailFastItemSaveFormValidator;
+import hello.itemservice.web.validation.ItemFormValidator;
+import hello.itemservice.web.validation.ValidationError;
+import hello.itemservice.web.validation.ValidationMetrics;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.Validator;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+/**
+ * ValidationItemApiController.addItem 과 같은 계약
+ * - 성공: 폼 JSON
+ * - 실패: ValidationError 목록 (verbose=true 이면 ObjectError, FieldError 전체)
+ * - X-Validation-Mode: fail-fast | full 헤더, validation.api.fail-fast 설정
+ * - 본문이 없으면 400 (MVC 의 필수 @RequestBody 와 같다)
+ *
+ * 요청 본문은 논블로킹으로 디코딩하고, 검증은 CPU 작업만 하므로 이벤트 루프 스레드에서 바로 수행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemApiHandler {
+
+    private final Validator validator;
+    private final MessageSource messageSource;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ValidationMetrics validationMetrics;
+    private final FailFastItemSaveFormValidator failFastValidator = new FailFastItemSaveFormValidator();
+
+    @Value("${validation.api.fail-fast:false}")
+    private boolean failFastByDefault;
+
+    public ReactiveItemApiHandler(javax.validation.Validator validator, MessageSource messageSource,
+                                  MessageCodesResolver messageCodesResolver, ValidationMetrics validationMetrics) {
+        this.validator = new ItemFormValidator(validator); // full 모드: MVC 와 같은 필드 검증 + 복합 룰(totalPriceMin)
+        this.messageSource = messageSource;
+        this.messageCodesResolver = messageCodesResolver;
+        this.validationMetrics = validationMetrics;
+    }
+
+    public Mono<ServerResponse> addItem(ServerRequest request) {
+        return request.bodyToMono(ItemSaveForm.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .flatMap(form -> {
+                    BindingResult bindingResult = validate(form, request);
+                    if (!bindingResult.hasErrors()) {
+                        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(form);
+                    }
+
+                    log.info("검증 오류 발생 errors={}", bindingResult);
+                    validationMetrics.rejected(bindingResult);
+                    boolean verbose = request.queryParam("verbose").map(Boolean::parseBoolean).orElse(false);
+                    Object body = verbose
+                            ? bindingResult.getAllErrors()
+                            : ValidationError.listOf(bindingResult, messageSource, localeOf(request));
+                    return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+                });
+    }
+
+    private BindingResult validate(ItemSaveForm form, ServerRequest request) {
+        String mode = request.headers().firstHeader("X-Validation-Mode");
+        boolean failFast = mode == null ? failFastByDefault : "fail-fast".equalsIgnoreCase(mode);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        (failFast ? failFastValidator : validator).validate(form, bindingResult);
+        return bindingResult;
+    }
+
+    private Locale localeOf(ServerRequest request) {
+        Locale locale = request.exchange().getLocaleContext().getLocale();
+        return locale == null ? Locale.getDefault() : locale;
+    }
+}
@@ -0,0 +1,22 @@
+package hello.itemservice.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemApiRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> itemApiRoutes(ReactiveItemApiHandler handler) {
+        return route(POST("/validation/api/items/add").and(contentType(MediaType.APPLICATION_JSON)), handler::addItem);
+    }
+}
@@ -0,0 +1,105 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.PricedItem;
+import hello.itemservice.web.validation.GroupPlanValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.rule.ItemRules;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Conventions;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 웹 요청 밖(배치 작업 등)에서 상품을 검증할 때 사용하는 서비스
+ *
+ * Validation.buildDefaultValidatorFactory() 는 호출할 때마다 제약 메타데이터를 새로 읽으므로 매우 비싸다.
+ * 이 서비스는 스프링이 한 번 만든 Validator 를 공유하고, (클래스, 그룹) 별 검증 계획도 GroupPlanValidator 에 캐시한다.
+ *
+ * - 결과는 컨트롤러와 같은 BindingResult 다. (objectName 은 itemSaveForm, itemUpdateForm, item)
+ *   Bean Validation 오류 + 복합 룰(totalPriceMin)을 담고, 같은 오류 코드로 메시지를 찾을 수 있다.
+ * - 여러 스레드에서 동시에 호출해도 된다.
+ * - 일괄 검증 결과는 입력 순서와 같다.
+ */
+@Service
+public class ItemValidationService {
+
+    /**
+     * 이보다 적으면 parallel = true 여도 나누지 않는다. (나누고 합치는 비용이 더 크다)
+     */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private final GroupPlanValidator validator;
+    private MessageCodesResolver messageCodesResolver;
+
+    public ItemValidationService(GroupPlanValidator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * 컨트롤러 바인딩과 같은 MessageCodesResolver 를 사용한다. (MessageCodesResolverConfig, 없으면 기본값)
+     */
+    @Autowired(required = false)
+    public void setMessageCodesResolver(MessageCodesResolver messageCodesResolver) {
+        this.messageCodesResolver = messageCodesResolver;
+    }
+
+    public BindingResult validate(ItemSaveForm form) {
+        return validateTarget(form);
+    }
+
+    public BindingResult validate(ItemUpdateForm form) {
+        return validateTarget(form);
+    }
+
+    /**
+     * @param groups SaveCheck.class, UpdateCheck.class 등, 없으면 Default 그룹
+     */
+    public BindingResult validate(Item item, Class<?>... groups) {
+        return validateTarget(item, (Object[]) groups);
+    }
+
+    /**
+     * 컬렉션 일괄 검증
+     * @param parallel true 이면 공용 ForkJoinPool 에서 나눠서 검증한다.
+     */
+    public List<BindingResult> validateAll(Collection<? extends PricedItem> items, boolean parallel, Class<?>... groups) {
+        if (!parallel || items.size() < PARALLEL_THRESHOLD) {
+            List<BindingResult> results = new ArrayList<>(items.size());
+            for (PricedItem item : items) {
+                results.add(validateTarget(item, (Object[]) groups));
+            }
+            return results;
+        }
+        return validateAll(items.parallelStream(), groups).collect(Collectors.toList());
+    }
+
+    /**
+     * 스트림 일괄 검증, 스트림이 끝까지 소비될 때 검증한다. (지연 실행)
+     * 병렬 스트림이면 병렬로 검증하고, 순서가 있는 스트림이면 결과 순서도 같다.
+     */
+    public Stream<BindingResult> validateAll(Stream<? extends PricedItem> items, Class<?>... groups) {
+        return items.map(item -> validateTarget(item, (Object[]) groups));
+    }
+
+    private BindingResult validateTarget(PricedItem target, Object... groups) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, Conventions.getVariableName(target));
+        if (messageCodesResolver != null) {
+            bindingResult.setMessageCodesResolver(messageCodesResolver);
+        }
+        validator.validate(target, bindingResult, groups);
+
+        // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
+        ItemRules.validate(target, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
+        return bindingResult;
+    }
+}
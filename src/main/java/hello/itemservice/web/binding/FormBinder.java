@@ -0,0 +1,18 @@
+package hello.itemservice.web.binding;
+
+import java.util.List;
+
+/**
+ * 폼 객체에 요청 파라미터를 바인딩한다. (@CompiledBinding -> {폼}CompiledBinder 자동 생성)
+ */
+public interface FormBinder<T> {
+
+    Class<T> formType();
+
+    /**
+     * 바인딩하는 필드 이름 (이름순)
+     */
+    List<String> fields();
+
+    void bind(T form, FormParameters parameters);
+}
@@ -0,0 +1,80 @@
+package hello.itemservice.web.binding;
+
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartRequest;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.ServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @ModelAttribute 인자 처리기, 등록된 폼 타입은 생성된 FormBinder 로 바인딩한다.
+ *
+ * 바인더 생성, @InitBinder, 검증(@Validated), BindingResult 처리는 기본 처리기와 같고
+ * 요청 파라미터 -> 폼 필드 바인딩만 BeanWrapper(리플렉션, ConversionService 조회) 대신 생성된 setter 호출로 바꾼다.
+ *
+ * 기본 바인딩과 결과가 달라질 수 있는 요청은 기본 바인딩을 그대로 사용한다.
+ * - @InitBinder 에서 허용/금지/필수 필드를 지정한 경우
+ * - multipart 요청
+ * - 요청 파라미터에 없는 필드를 경로 변수, 기본값(!필드), 마커(_필드)로 채우는 경우
+ * @InitBinder 에서 PropertyEditor 나 별도 Converter 를 쓰는 폼 타입은 등록하지 않는다.
+ */
+public class FormBindingMethodProcessor extends ServletModelAttributeMethodProcessor {
+
+    private final Map<Class<?>, FormBinder<?>> binders = new HashMap<>();
+
+    public FormBindingMethodProcessor(boolean annotationNotRequired, FormBinder<?>... binders) {
+        super(annotationNotRequired);
+        for (FormBinder<?> binder : binders) {
+            this.binders.put(binder.formType(), binder);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void bindRequestParameters(WebDataBinder binder, NativeWebRequest request) {
+        Object target = binder.getTarget();
+        FormBinder<Object> formBinder = target == null ? null : (FormBinder<Object>) binders.get(target.getClass());
+        ServletRequest servletRequest = request.getNativeRequest(ServletRequest.class);
+
+        if (formBinder == null || servletRequest == null || !canBind(formBinder, binder, servletRequest)) {
+            super.bindRequestParameters(binder, request);
+            return;
+        }
+        formBinder.bind(target, new FormParameters(servletRequest, binder));
+    }
+
+    private boolean canBind(FormBinder<?> formBinder, WebDataBinder binder, ServletRequest request) {
+        if (binder.getConversionService() == null
+                || !ObjectUtils.isEmpty(binder.getAllowedFields())
+                || !ObjectUtils.isEmpty(binder.getDisallowedFields())
+                || !ObjectUtils.isEmpty(binder.getRequiredFields())) {
+            return false;
+        }
+        if (WebUtils.getNativeRequest(request, MultipartRequest.class) != null
+                || StringUtils.startsWithIgnoreCase(request.getContentType(), "multipart/")) {
+            return false;
+        }
+
+        Map<?, ?> uriVariables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String defaultPrefix = binder.getFieldDefaultPrefix();
+        String markerPrefix = binder.getFieldMarkerPrefix();
+        for (String field : formBinder.fields()) {
+            if (request.getParameter(field) != null) {
+                continue;
+            }
+            if ((uriVariables != null && uriVariables.containsKey(field))
+                    || (defaultPrefix != null && request.getParameter(defaultPrefix + field) != null)
+                    || (markerPrefix != null && request.getParameter(markerPrefix + field) != null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,125 @@
+package hello.itemservice.web.binding;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DefaultBindingErrorProcessor;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.WebDataBinder;
+
+import javax.servlet.ServletRequest;
+import java.beans.PropertyChangeEvent;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 생성된 FormBinder 가 사용하는 요청 파라미터 변환
+ *
+ * 기본 바인더(BeanWrapper + ConversionService)의 변환 규칙을 그대로 따른다.
+ * - 파라미터가 없으면 setter 를 호출하지 않는다.
+ * - 같은 이름의 값이 여러 개이면 문자열은 ","로 이어 붙인다.
+ * - 숫자: 빈 문자열, 공백뿐인 문자열은 null, 나머지는 NumberParser (NumberUtils.parseNumber 와 같은 규칙, 예외 없음)
+ * - 변환에 실패하면 기본 바인더와 같은 typeMismatch 필드 오류를 남긴다. 이때 setter 는 호출하지 않는다.
+ *   (오류 코드, 인자, 거절된 값, 기본 메시지가 같으므로 errors.properties 메시지도 그대로 사용된다)
+ */
+public class FormParameters {
+
+    private final ServletRequest request;
+    private final WebDataBinder binder;
+
+    public FormParameters(ServletRequest request, WebDataBinder binder) {
+        this.request = request;
+        this.binder = binder;
+    }
+
+    public void bindString(String field, Consumer<String> setter) {
+        String[] values = request.getParameterValues(field);
+        if (values == null || values.length == 0) {
+            return;
+        }
+        setter.accept(values.length == 1 ? values[0] : StringUtils.arrayToCommaDelimitedString(values));
+    }
+
+    public void bindInteger(String field, Consumer<Integer> setter) {
+        bindNumber(field, Integer.class, NumberParser::parseInteger, setter);
+    }
+
+    public void bindLong(String field, Consumer<Long> setter) {
+        bindNumber(field, Long.class, NumberParser::parseLong, setter);
+    }
+
+    /**
+     * 기본 바인더는 ConversionService 로 먼저 변환하고(첫 번째 값, 빈 문자열은 null),
+     * 실패하면 PropertyEditor(CustomNumberEditor)로 한 번 더 변환한다. (여러 값은 ","로 이어 붙인 문자열, 공백뿐이면 null)
+     * 두 번째 변환도 실패하면 typeMismatch 오류가 된다.
+     */
+    private <T extends Number> void bindNumber(String field, Class<T> type, Function<String, T> parser, Consumer<T> setter) {
+        String[] values = request.getParameterValues(field);
+        if (values == null || values.length == 0) {
+            return;
+        }
+
+        String first = values[0];
+        if (first.isEmpty()) {
+            setter.accept(null);
+            return;
+        }
+        T value = parser.apply(first);
+        if (value != null) {
+            setter.accept(value);
+            return;
+        }
+
+        String text = values.length == 1 ? first : StringUtils.arrayToCommaDelimitedString(values);
+        if (!StringUtils.hasText(text)) {
+            setter.accept(null);
+            return;
+        }
+        value = values.length == 1 ? null : parser.apply(text);
+        if (value != null) {
+            setter.accept(value);
+            return;
+        }
+        typeMismatch(field, values, text, type);
+    }
+
+    /**
+     * 기본 바인더의 DefaultBindingErrorProcessor 가 TypeMismatchException 으로 만드는 FieldError 를 예외 없이 직접 만든다.
+     * (오류 코드, 인자, 거절된 값, 기본 메시지가 같다. FieldError.unwrap 으로 꺼낼 예외는 없다)
+     * 다른 BindingErrorProcessor 는 예외가 필요하고, 16진수 오류 메시지는 JDK 버전마다 다르므로 실제 예외를 만들어서 넘긴다.
+     */
+    private void typeMismatch(String field, String[] values, String text, Class<? extends Number> type) {
+        Object value = values.length == 1 ? values[0] : values;
+        String trimmed = NumberParser.trimAllWhitespace(text);
+        BindingResult bindingResult = binder.getBindingResult();
+
+        if (binder.getBindingErrorProcessor().getClass() != DefaultBindingErrorProcessor.class || NumberParser.isHexNumber(trimmed)) {
+            PropertyChangeEvent event = new PropertyChangeEvent(binder.getTarget(), field, null, value);
+            binder.getBindingErrorProcessor().processPropertyAccessException(
+                    new TypeMismatchException(event, type, parseFailure(text, type)), bindingResult);
+            return;
+        }
+
+        String objectName = bindingResult.getObjectName();
+        String[] codes = bindingResult.resolveMessageCodes("typeMismatch", field);
+        Object[] arguments = {new DefaultMessageSourceResolvable(new String[]{objectName + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+        Object rejectedValue = values.length == 1 ? values[0] : text;
+        String defaultMessage = "Failed to convert property value of type '" + ClassUtils.getDescriptiveType(value) + "'"
+                + " to required type '" + ClassUtils.getQualifiedName(type) + "' for property '" + field + "'"
+                + "; nested exception is java.lang.NumberFormatException: For input string: \"" + trimmed + "\"";
+        bindingResult.addError(new FieldError(objectName, field, rejectedValue, true, codes, arguments, defaultMessage));
+    }
+
+    private static IllegalArgumentException parseFailure(String text, Class<? extends Number> type) {
+        try {
+            NumberUtils.parseNumber(text, type);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+        throw new IllegalStateException("NumberParser 와 NumberUtils 의 변환 결과가 다릅니다: " + text);
+    }
+}
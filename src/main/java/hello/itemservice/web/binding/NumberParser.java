@@ -0,0 +1,103 @@
+package hello.itemservice.web.binding;
+
+/**
+ * 예외를 던지지 않는 정수 변환
+ *
+ * NumberUtils.parseNumber(text, Integer.class / Long.class)와 같은 문자열을 받아들인다.
+ * - 모든 공백 문자 제거 (StringUtils.trimAllWhitespace)
+ * - 10진수: 부호(+, -) 한 개 + 숫자 (Integer.valueOf)
+ * - 16진수: [-]0x, [-]0X, [-]# 로 시작 (Integer.decode)
+ * - 숫자는 Character.digit 으로 읽으므로 유니코드 숫자도 허용한다.
+ * 변환할 수 없거나 범위를 벗어나면 null 을 반환한다.
+ * (봇 트래픽처럼 잘못된 값이 많으면 NumberFormatException 생성과 스택 추적 수집이 요청 비용의 대부분이 된다)
+ */
+final class NumberParser {
+
+    private NumberParser() {
+    }
+
+    static Integer parseInteger(String text) {
+        Long value = parse(text, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value == null ? null : value.intValue();
+    }
+
+    static Long parseLong(String text) {
+        return parse(text, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * NumberUtils.isHexNumber 와 같다. (공백을 제거한 문자열)
+     */
+    static boolean isHexNumber(String trimmed) {
+        int start = trimmed.startsWith("-") ? 1 : 0;
+        return trimmed.startsWith("0x", start) || trimmed.startsWith("0X", start) || trimmed.startsWith("#", start);
+    }
+
+    static String trimAllWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return removeWhitespace(text, i);
+            }
+        }
+        return text; // 공백이 없으면 새 문자열을 만들지 않는다.
+    }
+
+    private static Long parse(String text, long min, long max) {
+        String s = trimAllWhitespace(text);
+        if (s.isEmpty()) {
+            return null;
+        }
+
+        if (isHexNumber(s)) {
+            boolean negative = s.charAt(0) == '-';
+            int index = negative ? 1 : 0;
+            index += s.charAt(index) == '#' ? 1 : 2;
+            return digits(s, index, 16, negative, min, max);
+        }
+
+        char first = s.charAt(0);
+        if (first < '0') {
+            if (first != '-' && first != '+') {
+                return null;
+            }
+            return digits(s, 1, 10, first == '-', min, max);
+        }
+        return digits(s, 0, 10, false, min, max);
+    }
+
+    /**
+     * s[from..] 를 radix 진수로 읽는다. (Integer.parseInt, Long.parseLong 과 같이 음수로 누적해서 MIN_VALUE 까지 읽는다)
+     */
+    private static Long digits(String s, int from, int radix, boolean negative, long min, long max) {
+        if (from >= s.length()) {
+            return null;
+        }
+        long limit = negative ? min : -max;
+        long multmin = limit / radix;
+        long result = 0;
+        for (int i = from; i < s.length(); i++) {
+            int digit = Character.digit(s.charAt(i), radix);
+            if (digit < 0 || result < multmin) {
+                return null;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static String removeWhitespace(String text, int from) {
+        StringBuilder sb = new StringBuilder(text.length());
+        sb.append(text, 0, from);
+        for (int i = from + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,215 @@
+package hello.itemservice.web.fragment;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring5.ISpringTemplateEngine;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 렌더링된 상품 조각(fragment) 캐시
+ *
+ * 목록의 행(row)과 상세 내용(detail)을 validation/fragments/item 템플릿으로 한 번 렌더링해 두고 재사용한다.
+ * 뷰에서는 ${@itemFragmentCache.row('/validation/v4/items', item)} 처럼 th:utext 로 붙여 넣는다.
+ * - 키: (조각, 기본 경로, 상품 id, 로케일), 값: (상품 버전, html)
+ * - 저장소의 상품 버전과 다르면(update 로 바뀌었으면) 다시 렌더링해서 교체한다. 따라서 어디서 수정하든 무효화된다.
+ * - 버전을 먼저 읽고 상품을 다시 조회해서 렌더링한다. (이전 데이터가 새 버전으로 캐시되지 않도록)
+ * - 최대 개수를 넘으면 오래 사용하지 않은 조각부터 지운다. (근사 LRU)
+ *   삭제된 상품(clearStore)이나 더 이상 보지 않는 로케일의 조각도 결국 밀려난다.
+ * - 조회한 조각의 버전이 저장소와 다르면 교체하고, 상품이 저장소에 없으면 지운다.
+ *
+ * 조회는 목록 렌더링마다 행 수만큼 일어나므로 락을 잡지 않는다. (ConcurrentHashMap + 조각별 마지막 사용 시각)
+ * 지우기는 최대 개수를 넘겼을 때 한 요청만 전체를 훑어서 오래된 조각을 최대 개수의 10% 만큼 더 지운다.
+ * (훑는 비용을 여러 번의 저장에 나눠 낸다. 지우는 동안 잠시 최대 개수를 넘을 수 있다)
+ */
+public class ItemFragmentCache {
+
+    static final String TEMPLATE = "validation/fragments/item";
+    static final String ROW = "row";
+    static final String DETAIL = "detail";
+
+    private final ItemRepository itemRepository;
+    private final ISpringTemplateEngine templateEngine;
+    private final int maxEntries;
+    private final Map<Key, Fragment> cache = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public ItemFragmentCache(ItemRepository itemRepository, ISpringTemplateEngine templateEngine, int maxEntries) {
+        this.itemRepository = itemRepository;
+        this.templateEngine = templateEngine;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 목록의 한 행 (<tr>)
+     */
+    public String row(String base, Item item) {
+        return get(ROW, base, item);
+    }
+
+    /**
+     * 상세 페이지의 상품 정보와 버튼
+     */
+    public String detail(String base, Item item) {
+        return get(DETAIL, base, item);
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private String get(String fragment, String base, Item item) {
+        Locale locale = LocaleContextHolder.getLocale();
+        Key key = new Key(fragment, base, item.getId(), locale);
+
+        long version = itemRepository.getVersion(item.getId());
+        Fragment cached = cache.get(key);
+        if (cached != null && cached.version == version) {
+            cached.lastAccess = System.nanoTime();
+            return cached.html;
+        }
+
+        Item current = version == 0 ? null : itemRepository.findById(item.getId());
+        if (current == null) {
+            if (cached != null) {
+                cache.remove(key, cached);
+            }
+            return render(fragment, base, item, locale); // 저장소에 없는 상품은 캐시하지 않는다.
+        }
+
+        String html = render(fragment, base, current, locale);
+        // 동시에 렌더링한 경우 더 새로운 버전을 남긴다.
+        cache.merge(key, new Fragment(version, html), (old, rendered) -> old.version > rendered.version ? old : rendered);
+        if (cache.size() > maxEntries) {
+            evict();
+        }
+        return html;
+    }
+
+    /**
+     * 마지막 사용 시각이 오래된 순으로 (넘친 개수 + 최대 개수의 10%) 만큼 지운다.
+     * 다른 요청이 이미 지우고 있으면 그냥 돌아간다.
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int count = cache.size() - maxEntries + maxEntries / 10;
+            if (count <= 0) {
+                return;
+            }
+            // 훑는 동안에도 사용 시각이 바뀌므로 시각을 복사해 두고 정렬한다.
+            List<Candidate> candidates = new ArrayList<>(cache.size());
+            cache.forEach((key, fragment) -> candidates.add(new Candidate(key, fragment)));
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+            for (int i = 0; i < count && i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                cache.remove(candidate.key, candidate.fragment);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 현재 요청의 WebContext 로 조각만 렌더링한다. (@{...} 링크에 컨텍스트 경로가 붙는다)
+     * 캐시된 html 은 다른 사용자에게도 나가므로 URL 에 세션 id(;jsessionid=)가 붙지 않게 encodeURL 을 막는다.
+     */
+    protected String render(String fragment, String base, Item item, Locale locale) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+        WebContext context = new WebContext(request, new NoSessionIdResponse(attributes.getResponse()),
+                request.getServletContext(), locale);
+        context.setVariable("base", base);
+        context.setVariable("item", item);
+        return templateEngine.process(TEMPLATE, Collections.singleton(fragment), context);
+    }
+
+    private static class NoSessionIdResponse extends HttpServletResponseWrapper {
+
+        NoSessionIdResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+    }
+
+    private static final class Fragment {
+
+        final long version;
+        final String html;
+        volatile long lastAccess = System.nanoTime();
+
+        Fragment(long version, String html) {
+            this.version = version;
+            this.html = html;
+        }
+    }
+
+    private static final class Candidate {
+
+        final Key key;
+        final Fragment fragment;
+        final long lastAccess;
+
+        Candidate(Key key, Fragment fragment) {
+            this.key = key;
+            this.fragment = fragment;
+            this.lastAccess = fragment.lastAccess;
+        }
+    }
+
+    private static final class Key {
+
+        private final String fragment;
+        private final String base;
+        private final Long itemId;
+        private final Locale locale;
+        private final int hash;
+
+        Key(String fragment, String base, Long itemId, Locale locale) {
+            this.fragment = fragment;
+            this.base = base;
+            this.itemId = itemId;
+            this.locale = locale;
+            this.hash = Objects.hash(fragment, base, itemId, locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return fragment.equals(key.fragment) && base.equals(key.base)
+                    && itemId.equals(key.itemId) && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package hello.itemservice.web.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 멱등 키 -> 첫 응답
+ *
+ * - 처음 온 요청(owner)만 future 를 등록하고 처리한다. 같은 키로 동시에 온 요청은 같은 future 의 결과를 기다린다.
+ * - 등록 순서(LinkedHashMap)를 유지하므로 가장 오래된 항목이 항상 맨 앞이다.
+ *   새 키를 등록할 때 맨 앞부터 만료(ttl)된 항목과 maxEntries 를 넘는 항목을 지운다.
+ * - 처리에 실패하면 키를 지우고 null 로 완료해서, 기다리던 요청이 직접 처리하게 한다.
+ */
+public class IdempotencyCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 키를 처음 사용하면 새 future 를 등록하고 null 을 반환한다. (호출한 요청이 처리해야 한다)
+     * 이미 있으면 그 future 를 반환한다. (완료된 응답 또는 처리 중인 요청의 결과)
+     */
+    public synchronized CompletableFuture<StoredResponse> claim(String key, CompletableFuture<StoredResponse> future) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.createdAt <= ttlMillis) {
+            return entry.future;
+        }
+        if (entry != null) {
+            entries.remove(key);
+        }
+
+        evict(now);
+        entries.put(key, new Entry(future, now));
+        return null;
+    }
+
+    public void complete(String key, CompletableFuture<StoredResponse> future, StoredResponse response) {
+        if (response == null) {
+            synchronized (this) {
+                Entry entry = entries.get(key);
+                if (entry != null && entry.future == future) {
+                    entries.remove(key);
+                }
+            }
+        }
+        future.complete(response);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry oldest = iterator.next();
+            if (entries.size() < maxEntries && now - oldest.createdAt <= ttlMillis) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+
+        final CompletableFuture<StoredResponse> future;
+        final long createdAt;
+
+        Entry(CompletableFuture<StoredResponse> future, long createdAt) {
+            this.future = future;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package hello.itemservice.web.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등 키(Idempotency-Key 헤더 또는 idempotencyKey 파라미터)가 있는 POST 요청의 중복 처리 방지
+ *
+ * 같은 키로 다시 온 요청(재시도, 더블 클릭)은 컨트롤러까지 가지 않고 첫 응답을 그대로 돌려준다.
+ * 바인딩, 검증, 저장(ItemRepository)을 다시 하지 않으므로 상품이 중복으로 등록되지 않는다.
+ * 처음 요청이 아직 처리 중이면 끝날 때까지 기다렸다가 같은 응답을 받는다.
+ *
+ * - 키는 요청 URI, 요청한 사용자(principal, 없으면 세션, 세션도 없으면 클라이언트 주소) 별로 구분한다.
+ *   다른 사용자가 같은 키를 보내도 다른 사용자의 응답을 받지 않는다.
+ * - 저장하는 응답은 등록 성공 redirect(3xx)와 API JSON 응답뿐이다.
+ *   검증 실패로 폼을 다시 보여주는 HTML 응답, 5xx 응답, MAX_BODY_BYTES 를 넘는 응답은 저장하지 않는다.
+ *   (폼을 고쳐서 같은 키로 다시 보내면 다시 처리한다)
+ * - 다시 보낸 응답에는 Idempotent-Replay: true 헤더가 붙는다.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String KEY_PARAMETER = "idempotencyKey";
+    public static final String REPLAY_HEADER = "Idempotent-Replay";
+
+    static final int MAX_KEY_LENGTH = 128;
+    static final int MAX_BODY_BYTES = 256 * 1024;
+    static final long WAIT_SECONDS = 30;
+
+    private final IdempotencyCache cache;
+
+    public IdempotencyFilter(IdempotencyCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || keyOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getRequestURI() + " " + ownerOf(request) + " " + keyOf(request);
+        CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = cache.claim(key, future);
+
+        if (existing != null) {
+            StoredResponse stored = await(existing);
+            if (stored != null) {
+                log.info("멱등 키 재요청, 저장된 응답 반환 key={}", key);
+                response.setHeader(REPLAY_HEADER, "true");
+                stored.writeTo(response);
+                return;
+            }
+            // 첫 요청이 실패했거나 너무 오래 걸리면 직접 처리한다. (저장하지 않음)
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            byte[] body = wrapper.getContentAsByteArray();
+            if (isReplayable(wrapper.getStatus(), wrapper.getContentType()) && body.length <= MAX_BODY_BYTES) {
+                stored = StoredResponse.of(wrapper, body);
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            cache.complete(key, future, stored);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future) throws ServletException {
+        try {
+            return future.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException(e);
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 등록 성공 redirect 와 API JSON 응답(검증 오류 목록 포함)만 다시 보낸다.
+     */
+    static boolean isReplayable(int status, String contentType) {
+        if (status >= 300 && status < 400) {
+            return true;
+        }
+        if (status >= 500 || !StringUtils.hasText(contentType)) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || "json".equals(mediaType.getSubtypeSuffix());
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static String ownerOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "session:" + session.getId();
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+
+    private static String keyOf(HttpServletRequest request) {
+        String key = request.getHeader(KEY_HEADER);
+        if (!StringUtils.hasText(key)) {
+            key = request.getParameter(KEY_PARAMETER);
+        }
+        if (!StringUtils.hasText(key) || key.length() > MAX_KEY_LENGTH) {
+            return null;
+        }
+        return key;
+    }
+}
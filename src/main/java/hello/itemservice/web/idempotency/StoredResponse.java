@@ -0,0 +1,65 @@
+package hello.itemservice.web.idempotency;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 저장된 첫 응답 (상태 코드, 헤더, 본문)
+ */
+public class StoredResponse {
+
+    /**
+     * 다시 보내지 않는 헤더
+     * - Content-Type, Content-Length: 따로 처리
+     * - Date, Transfer-Encoding, Connection: 응답마다 서버가 정한다.
+     * - Set-Cookie: 첫 응답에서 이미 클라이언트에 전달되었다. (세션 쿠키 등을 다시 보내지 않는다)
+     */
+    static final Set<String> EXCLUDED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        EXCLUDED_HEADERS.addAll(List.of("Content-Type", "Content-Length", "Date", "Transfer-Encoding", "Connection",
+                "Set-Cookie", IdempotencyFilter.REPLAY_HEADER));
+    }
+
+    private final int status;
+    private final String contentType;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    StoredResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    static StoredResponse of(HttpServletResponse response, byte[] body) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!EXCLUDED_HEADERS.contains(name) && !headers.containsKey(name)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return new StoredResponse(response.getStatus(), response.getContentType(), headers, body);
+    }
+
+    void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        headers.forEach((name, values) -> {
+            for (String value : values) {
+                response.addHeader(name, value);
+            }
+        });
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,277 @@
+package hello.itemservice.web.validation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 관찰한 거절률과 비용으로 검사 순서를 바꾸는 Validator
+ *
+ * 필드별 룰(rule)을 실행할 때마다 실행 횟수와 거절 횟수를 세고, SAMPLE_RATE 번에 한 번 실행 시간을 잰다.
+ * 카운터는 LongAdder(스레드별로 나뉜 셀)라서 여러 요청이 동시에 올려도 경합이 적다.
+ * 시간을 잰 호출이 REORDER_SAMPLES 번 쌓일 때마다 룰별 (거절률 / 평균 비용)이 큰 순서로 다시 정렬한다.
+ * (이전 값과 반씩 섞으므로 거절 패턴이 바뀌면 순서도 따라 바뀐다)
+ *
+ * - failFast = false: 모든 룰을 실행한다. 룰은 서로 독립적인 필드 검사이므로 순서가 바뀌어도 오류 집합은 같다.
+ * - failFast = true: 첫 오류에서 멈춘다. 자주 거절하고 싼 룰이 앞으로 오므로 거절되는 요청의 비용이 줄어든다.
+ * - after(복합 룰 등)는 순서와 상관없이 항상 필드 룰 다음에 실행한다. (fail-fast 에서는 오류가 없을 때만)
+ */
+@Slf4j
+public class AdaptiveValidator implements SmartValidator {
+
+    static final int SAMPLE_RATE = 16;
+    static final int REORDER_SAMPLES = 64;
+
+    private static final Object[] NO_HINTS = {};
+
+    private final Class<?> type;
+    private final Rule[] rules;
+    private final BiConsumer<Object, Errors> after;
+    private final boolean failFast;
+
+    private volatile Rule[] order;
+    private final AtomicLong samples = new AtomicLong();
+    private final ReentrantLock reorderLock = new ReentrantLock();
+
+    private AdaptiveValidator(Builder builder) {
+        this.type = builder.type;
+        this.rules = builder.rules.toArray(new Rule[0]);
+        this.after = builder.after;
+        this.failFast = builder.failFast;
+        this.order = rules;
+    }
+
+    public static Builder builder(Class<?> type) {
+        return new Builder(type);
+    }
+
+    /**
+     * Bean Validation 을 프로퍼티 단위 룰로 나눈다. (프로퍼티 하나 = 룰 하나, 선언 순서가 처음 순서)
+     * validateProperty 는 클래스 레벨 제약과 @Valid(연쇄 검증)를 처리하지 않으므로 그런 타입은 지원하지 않는다.
+     */
+    public static Builder beanValidation(Validator validator, Class<?> type) {
+        BeanDescriptor descriptor = validator.getConstraintsForClass(type);
+        if (!descriptor.getConstraintDescriptors().isEmpty()) {
+            throw new IllegalArgumentException("클래스 레벨 제약은 지원하지 않습니다: " + type.getName());
+        }
+
+        PropertyValidator propertyValidator = new PropertyValidator(validator);
+        Builder builder = builder(type);
+        for (Field field : type.getDeclaredFields()) {
+            PropertyDescriptor property = descriptor.getConstraintsForProperty(field.getName());
+            if (property == null) {
+                continue;
+            }
+            if (property.isCascaded()) {
+                throw new IllegalArgumentException("@Valid 프로퍼티는 지원하지 않습니다: " + type.getName() + "." + field.getName());
+            }
+            String name = field.getName();
+            builder.rule(name, (target, errors, hints) -> propertyValidator.validateProperty(target, name, errors, hints));
+        }
+        if (builder.rules.size() != descriptor.getConstrainedProperties().size()) {
+            throw new IllegalArgumentException("필드로 선언되지 않은(상속, getter) 제약은 지원하지 않습니다: " + type.getName());
+        }
+        return builder;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return type.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, NO_HINTS);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (failFast && errors.hasErrors()) {
+            return; // 바인딩 실패 등 이미 오류가 있다.
+        }
+
+        boolean sampled = ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+        boolean rejected = false;
+        for (Rule rule : order) {
+            int before = errors.getErrorCount();
+            long start = sampled ? System.nanoTime() : 0;
+
+            rule.check.validate(target, errors, validationHints);
+
+            if (sampled) {
+                rule.nanos.add(System.nanoTime() - start);
+                rule.timed.increment();
+            }
+            rule.evaluations.increment();
+            if (errors.getErrorCount() > before) {
+                rule.rejections.increment();
+                rejected = true;
+                if (failFast) {
+                    break;
+                }
+            }
+        }
+
+        if (after != null && !(failFast && rejected)) {
+            after.accept(target, errors);
+        }
+        if (sampled && samples.incrementAndGet() % REORDER_SAMPLES == 0) {
+            reorder();
+        }
+    }
+
+    /**
+     * 현재 검사 순서 (룰 이름)
+     */
+    public List<String> ruleOrder() {
+        List<String> names = new ArrayList<>();
+        for (Rule rule : order) {
+            names.add(rule.name);
+        }
+        return names;
+    }
+
+    /**
+     * 쌓인 카운터를 반영해서 순서를 다시 정한다. 다른 스레드가 정렬 중이면 건너뛴다.
+     * 점수가 같으면 선언 순서를 유지한다. (안정 정렬)
+     */
+    void reorder() {
+        if (!reorderLock.tryLock()) {
+            return;
+        }
+        try {
+            for (Rule rule : rules) {
+                rule.updateScore();
+            }
+            Rule[] next = rules.clone();
+            Arrays.sort(next, Comparator.comparingDouble((Rule rule) -> rule.score).reversed());
+            if (!Arrays.equals(next, order)) {
+                order = next;
+                log.debug("{} 검증 순서 변경 {}", type.getSimpleName(), ruleOrder());
+            }
+        } finally {
+            reorderLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Check {
+        void validate(Object target, Errors errors, Object[] hints);
+    }
+
+    public static class Builder {
+
+        private final Class<?> type;
+        private final List<Rule> rules = new ArrayList<>();
+        private BiConsumer<Object, Errors> after;
+        private boolean failFast;
+
+        private Builder(Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * 필드 룰, 다른 룰의 결과에 의존하지 않아야 한다.
+         */
+        public Builder rule(String name, Check check) {
+            rules.add(new Rule(name, check));
+            return this;
+        }
+
+        /**
+         * 필드 룰이 모두 끝난 뒤에 실행할 검증 (복합 룰 등)
+         */
+        public Builder after(BiConsumer<Object, Errors> after) {
+            this.after = after;
+            return this;
+        }
+
+        public Builder failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        public AdaptiveValidator build() {
+            return new AdaptiveValidator(this);
+        }
+    }
+
+    private static final class Rule {
+
+        final String name;
+        final Check check;
+
+        final LongAdder evaluations = new LongAdder();
+        final LongAdder rejections = new LongAdder();
+        final LongAdder timed = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        // reorderLock 안에서만 읽고 쓴다.
+        double rejectRate;
+        double cost = 1;
+        double score;
+
+        Rule(String name, Check check) {
+            this.name = name;
+            this.check = check;
+        }
+
+        void updateScore() {
+            long evaluated = evaluations.sumThenReset();
+            long rejected = rejections.sumThenReset();
+            long timedCount = timed.sumThenReset();
+            long spent = nanos.sumThenReset();
+
+            if (evaluated > 0) {
+                rejectRate = (rejectRate + (double) rejected / evaluated) / 2;
+            }
+            if (timedCount > 0) {
+                cost = (cost + Math.max(1, (double) spent / timedCount)) / 2;
+            }
+            score = rejectRate / cost;
+        }
+    }
+
+    /**
+     * SpringValidatorAdapter 의 오류 변환(processConstraintViolations)을 프로퍼티 단위 검증에 사용한다.
+     * 오류 코드와 인자가 @Validated 와 같다.
+     */
+    private static final class PropertyValidator extends SpringValidatorAdapter {
+
+        private final Validator validator;
+
+        PropertyValidator(Validator validator) {
+            super(validator);
+            this.validator = validator;
+        }
+
+        void validateProperty(Object target, String property, Errors errors, Object[] hints) {
+            processConstraintViolations(validator.validateProperty(target, property, groups(hints)), errors);
+        }
+
+        private static Class<?>[] groups(Object[] hints) {
+            List<Class<?>> groups = new ArrayList<>();
+            for (Object hint : hints) {
+                if (hint instanceof Class) {
+                    groups.add((Class<?>) hint);
+                }
+            }
+            return groups.toArray(new Class<?>[0]);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MessageCodesResolver 결과 캐시
+ *
+ * rejectValue("price", "range") 는 호출할 때마다 range.item.price, range.price, range.java.lang.Integer, range
+ * 4개의 문자열을 이어 붙여서 새로 만든다. (MessageCodesResolverTest 참고)
+ * 입력(errorCode, objectName, field, fieldType)이 같으면 결과도 항상 같으므로 한 번 만든 배열을 재사용한다.
+ *
+ * - 캐시 크기는 maxSize 로 제한하고, 가득 차면 더 이상 추가하지 않고 위임 결과를 그대로 반환한다.
+ * - 반환된 배열은 여러 오류가 공유하므로 수정하면 안 된다. (FieldError 는 codes 배열을 수정하지 않는다)
+ */
+public class CachingMessageCodesResolver implements MessageCodesResolver {
+
+    private final MessageCodesResolver delegate;
+    private final int maxSize;
+    private final Map<Key, String[]> cache = new ConcurrentHashMap<>();
+
+    public CachingMessageCodesResolver(MessageCodesResolver delegate, int maxSize) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        Key key = new Key(errorCode, objectName, null, null);
+        String[] codes = cache.get(key);
+        if (codes == null) {
+            codes = delegate.resolveMessageCodes(errorCode, objectName);
+            put(key, codes);
+        }
+        return codes;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, Class<?> fieldType) {
+        Key key = new Key(errorCode, objectName, field, fieldType);
+        String[] codes = cache.get(key);
+        if (codes == null) {
+            codes = delegate.resolveMessageCodes(errorCode, objectName, field, fieldType);
+            put(key, codes);
+        }
+        return codes;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private void put(Key key, String[] codes) {
+        if (cache.size() < maxSize) {
+            cache.putIfAbsent(key, codes);
+        }
+    }
+
+    private static final class Key {
+
+        private final String errorCode;
+        private final String objectName;
+        private final String field;
+        private final Class<?> fieldType;
+        private final int hash;
+
+        Key(String errorCode, String objectName, String field, Class<?> fieldType) {
+            this.errorCode = errorCode;
+            this.objectName = objectName;
+            this.field = field;
+            this.fieldType = fieldType;
+            this.hash = Objects.hash(errorCode, objectName, field, fieldType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(errorCode, other.errorCode)
+                    && Objects.equals(objectName, other.objectName)
+                    && Objects.equals(field, other.field)
+                    && fieldType == other.fieldType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledValidator;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.form.ItemUpdateFormCompiledValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+
+/**
+ * validation.compiled.enabled=true 이면 모든 컨트롤러에서 ItemSaveForm, ItemUpdateForm 검증에
+ * Bean Validation 대신 컴파일 시점에 생성된 검증기를 사용한다. (@ModelAttribute, @RequestBody 모두 적용)
+ * 오류 코드와 인자가 같으므로 errors.properties 메시지도 그대로 사용된다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "validation.compiled.enabled", havingValue = "true")
+public class CompiledValidationAdvice {
+
+    private final ItemSaveFormCompiledValidator saveFormValidator = new ItemSaveFormCompiledValidator();
+    private final ItemUpdateFormCompiledValidator updateFormValidator = new ItemUpdateFormCompiledValidator();
+
+    @InitBinder
+    public void init(WebDataBinder dataBinder) {
+        Object target = dataBinder.getTarget();
+        if (target instanceof ItemSaveForm) {
+            dataBinder.setValidator(saveFormValidator);
+        } else if (target instanceof ItemUpdateForm) {
+            dataBinder.setValidator(updateFormValidator);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledValidator;
+import hello.itemservice.web.validation.rule.ItemRules;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * 첫 번째 오류에서 멈추는 ItemSaveForm 검증기 (API fail-fast 모드)
+ * 필드 검사는 비용이 낮은 순서(null -> 숫자 범위 -> 문자열)로 하고, 모두 통과했을 때만 복합 룰(totalPriceMin)을 검사한다.
+ * 오류 코드와 인자는 @Validated 와 같으므로 같은 메시지를 사용한다.
+ */
+public class FailFastItemSaveFormValidator implements Validator {
+
+    private final ItemSaveFormCompiledValidator fieldValidator = new ItemSaveFormCompiledValidator();
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return ItemSaveForm.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (fieldValidator.validateFailFast(target, errors)) {
+            return;
+        }
+
+        // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
+        ItemRules.validate((ItemSaveForm) target, errors);
+    }
+}
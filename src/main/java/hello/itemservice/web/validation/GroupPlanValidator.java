@@ -0,0 +1,278 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.GroupSequence;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (검증 대상 클래스, 그룹) 별로 검증 계획을 한 번만 만들어 두고 재사용하는 Validator
+ *
+ * @Validated(SaveCheck.class) 는 요청마다 그룹 순서를 정하고 모든 제약을 훑으면서 그룹에 속하는지 거른다.
+ * 계획은 처음 한 번만 BeanDescriptor 로 계산한다.
+ * - 그룹에 속한 제약이 있는 프로퍼티만 순서대로 모아 두고, 요청마다 그 프로퍼티만 validateProperty 로 검사한다.
+ * - @GroupSequence 그룹은 순서대로 단계(step)를 나누고, 앞 단계에서 오류가 나면 뒤 단계는 검사하지 않는다.
+ *   (검증 대상 클래스에 @GroupSequence 가 있으면 Default 그룹 대신 그 순서를 사용한다)
+ * - 클래스 레벨 제약이나 @Valid 프로퍼티가 있는 단계는 그 단계만 전체 validate 로 검사한다.
+ * 오류 코드와 인자는 @Validated(SpringValidatorAdapter)와 같다.
+ */
+@Component
+public class GroupPlanValidator implements SmartValidator {
+
+    private static final Class<?>[] DEFAULT_GROUPS = {Default.class};
+
+    private final Validator validator;
+    private final ViolationConverter converter;
+    private final Map<PlanKey, Plan> plans = new ConcurrentHashMap<>();
+
+    public GroupPlanValidator(Validator validator) {
+        this.validator = validator;
+        this.converter = new ViolationConverter(validator);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, (Object[]) DEFAULT_GROUPS);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        Class<?>[] groups = groups(validationHints);
+        Plan plan = plans.computeIfAbsent(new PlanKey(target.getClass(), groups), key -> compile(key.type, key.groups));
+        converter.process(plan.validate(validator, target), errors);
+    }
+
+    int planCount() {
+        return plans.size();
+    }
+
+    private Plan compile(Class<?> type, Class<?>[] groups) {
+        BeanDescriptor descriptor = validator.getConstraintsForClass(type);
+
+        // 일반 그룹은 한 단계로 함께 검사하고, 그룹 순서(@GroupSequence)는 각각 따로 단계를 나눈다.
+        List<Class<?>> plainGroups = new ArrayList<>();
+        List<List<Class<?>>> sequences = new ArrayList<>();
+        for (Class<?> group : groups) {
+            Class<?>[] sequence = sequenceOf(type, group);
+            if (sequence == null) {
+                plainGroups.add(group);
+            } else {
+                sequences.add(expand(type, sequence));
+            }
+        }
+
+        List<Step[]> chains = new ArrayList<>();
+        if (!plainGroups.isEmpty()) {
+            chains.add(new Step[]{step(descriptor, type, plainGroups.toArray(new Class<?>[0]))});
+        }
+        for (List<Class<?>> sequence : sequences) {
+            Step[] steps = new Step[sequence.size()];
+            for (int i = 0; i < steps.length; i++) {
+                steps[i] = step(descriptor, type, sequence.get(i));
+            }
+            chains.add(steps);
+        }
+        return new Plan(chains.toArray(new Step[0][]));
+    }
+
+    private Step step(BeanDescriptor descriptor, Class<?> type, Class<?>... groups) {
+        boolean full = !descriptor.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors().isEmpty();
+        List<String> properties = new ArrayList<>();
+        for (PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+            if (property.isCascaded()) {
+                full = true;
+            }
+            if (!property.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors().isEmpty()) {
+                properties.add(property.getPropertyName());
+            }
+        }
+        properties.sort(new DeclarationOrder(type));
+        return new Step(groups, full ? null : properties.toArray(new String[0]));
+    }
+
+    /**
+     * @GroupSequence 가 붙은 그룹이면 그 순서, 아니면 null
+     * 검증 대상 클래스에 붙은 @GroupSequence 는 Default 그룹을 재정의한다.
+     * 순서 안의 클래스 자신은 "그 클래스의 Default 제약" 그룹이므로 다시 펼치지 않는다.
+     */
+    private static Class<?>[] sequenceOf(Class<?> type, Class<?> group) {
+        if (group == Default.class) {
+            GroupSequence redefined = type.getAnnotation(GroupSequence.class);
+            return redefined == null ? null : redefined.value();
+        }
+        if (group == type) {
+            return null;
+        }
+        GroupSequence sequence = group.getAnnotation(GroupSequence.class);
+        return sequence == null ? null : sequence.value();
+    }
+
+    /**
+     * 순서 안의 그룹이 다시 그룹 순서이면 펼친다.
+     */
+    private static List<Class<?>> expand(Class<?> type, Class<?>[] sequence) {
+        List<Class<?>> groups = new ArrayList<>();
+        for (Class<?> group : sequence) {
+            Class<?>[] nested = sequenceOf(type, group);
+            if (nested == null) {
+                groups.add(group);
+            } else {
+                groups.addAll(expand(type, nested));
+            }
+        }
+        return groups;
+    }
+
+    private static Class<?>[] groups(Object[] hints) {
+        List<Class<?>> groups = new ArrayList<>();
+        for (Object hint : hints) {
+            if (hint instanceof Class) {
+                groups.add((Class<?>) hint);
+            }
+        }
+        return groups.isEmpty() ? DEFAULT_GROUPS : groups.toArray(new Class<?>[0]);
+    }
+
+    private static final class Plan {
+
+        private final Step[][] chains;
+
+        Plan(Step[][] chains) {
+            this.chains = chains;
+        }
+
+        /**
+         * 같은 제약이 여러 단계에 걸쳐 있어도 한 번만 남도록 Set 에 모은다. (ConstraintViolation 은 equals 를 구현한다)
+         */
+        Set<ConstraintViolation<Object>> validate(Validator validator, Object target) {
+            Set<ConstraintViolation<Object>> violations = new LinkedHashSet<>();
+            for (Step[] chain : chains) {
+                for (Step step : chain) {
+                    if (step.validate(validator, target, violations)) {
+                        break; // 그룹 순서: 이 단계에서 오류가 나면 다음 단계는 검사하지 않는다.
+                    }
+                }
+            }
+            return violations;
+        }
+    }
+
+    private static final class Step {
+
+        private final Class<?>[] groups;
+        private final String[] properties; // null 이면 전체 validate
+
+        Step(Class<?>[] groups, String[] properties) {
+            this.groups = groups;
+            this.properties = properties;
+        }
+
+        boolean validate(Validator validator, Object target, Set<ConstraintViolation<Object>> violations) {
+            if (properties == null) {
+                Set<ConstraintViolation<Object>> found = validator.validate(target, groups);
+                violations.addAll(found);
+                return !found.isEmpty();
+            }
+            boolean rejected = false;
+            for (String property : properties) {
+                Set<ConstraintViolation<Object>> found = validator.validateProperty(target, property, groups);
+                if (!found.isEmpty()) {
+                    violations.addAll(found);
+                    rejected = true;
+                }
+            }
+            return rejected;
+        }
+    }
+
+    /**
+     * 필드 선언 순서 (오류 순서를 일정하게 하기 위해), 필드가 아닌 프로퍼티는 뒤로
+     */
+    private static final class DeclarationOrder implements Comparator<String> {
+
+        private final List<String> fields = new ArrayList<>();
+
+        DeclarationOrder(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    fields.add(field.getName());
+                }
+            }
+        }
+
+        @Override
+        public int compare(String a, String b) {
+            return Integer.compare(index(a), index(b));
+        }
+
+        private int index(String property) {
+            int index = fields.indexOf(property);
+            return index < 0 ? Integer.MAX_VALUE : index;
+        }
+    }
+
+    private static final class PlanKey {
+
+        private final Class<?> type;
+        private final Class<?>[] groups;
+        private final int hash;
+
+        PlanKey(Class<?> type, Class<?>[] groups) {
+            this.type = type;
+            this.groups = groups;
+            this.hash = 31 * type.hashCode() + Arrays.hashCode(groups);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey key = (PlanKey) o;
+            return type == key.type && Arrays.equals(groups, key.groups);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * ConstraintViolation -> FieldError/ObjectError 변환은 SpringValidatorAdapter 를 그대로 사용한다.
+     */
+    private static final class ViolationConverter extends SpringValidatorAdapter {
+
+        ViolationConverter(Validator validator) {
+            super(validator);
+        }
+
+        void process(Set<ConstraintViolation<Object>> violations, Errors errors) {
+            processConstraintViolations(violations, errors);
+        }
+    }
+}
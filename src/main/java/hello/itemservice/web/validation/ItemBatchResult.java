@@ -0,0 +1,36 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.springframework.validation.ObjectError;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과 (요청 배열의 index 순서와 같다)
+ * 저장된 항목은 itemId, 거절된 항목은 errors 를 가진다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemBatchResult {
+
+    private final int index;
+    private final String status;
+    private final Long itemId;
+    private final List<ObjectError> errors;
+
+    private ItemBatchResult(int index, String status, Long itemId, List<ObjectError> errors) {
+        this.index = index;
+        this.status = status;
+        this.itemId = itemId;
+        this.errors = errors;
+    }
+
+    public static ItemBatchResult saved(int index, Long itemId) {
+        return new ItemBatchResult(index, "saved", itemId, null);
+    }
+
+    public static ItemBatchResult rejected(int index, List<ObjectError> errors) {
+        return new ItemBatchResult(index, "rejected", null, errors);
+    }
+}
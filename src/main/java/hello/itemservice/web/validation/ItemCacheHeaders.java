@@ -0,0 +1,45 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.ItemRepository;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 상품 상세, 수정 폼, 목록 페이지의 조건부 GET (ETag, Last-Modified)
+ *
+ * 저장소의 버전(스탬프)으로 ETag 를 만들고 요청의 If-None-Match(If-Modified-Since)와 비교한다.
+ * 일치하면 304 를 설정하고 true 를 반환하므로, 컨트롤러는 데이터를 조회하거나 뷰를 렌더링하지 않고 바로 null 을 반환한다.
+ * - 상세, 수정 폼: "item-{id}-{버전}-{로케일}"
+ * - 목록: "items-{스탬프}-{로케일}" (쿼리 파라미터가 다르면 URL 이 다르므로 ETag 에 넣지 않는다)
+ * 메시지가 로케일에 따라 달라지므로 ETag 에 로케일을 넣고 Vary: Accept-Language 를 남긴다.
+ */
+public abstract class ItemCacheHeaders {
+
+    /**
+     * 없는 상품은 검사하지 않는다. (false)
+     */
+    public static boolean checkItem(ServletWebRequest request, ItemRepository itemRepository, Long itemId) {
+        long version = itemRepository.getVersion(itemId);
+        if (version == 0) {
+            return false;
+        }
+        return checkNotModified(request, "item-" + itemId + "-" + version, version);
+    }
+
+    public static boolean checkItems(ServletWebRequest request, ItemRepository itemRepository) {
+        long stamp = itemRepository.getStamp();
+        return checkNotModified(request, "items-" + stamp, stamp);
+    }
+
+    private static boolean checkNotModified(ServletWebRequest request, String tag, long lastModified) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+        }
+        String etag = "\"" + tag + "-" + LocaleContextHolder.getLocale().toLanguageTag() + "\"";
+        return request.checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,76 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledValidator;
+import hello.itemservice.web.validation.rule.ItemRules;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+
+/**
+ * ItemSaveForm 검증: Bean Validation 검증 + 복합 룰(totalPriceMin)
+ * 일괄 등록, NDJSON 등록처럼 @RequestBody 가 아닌 곳에서는 validate(form) 으로 BindingResult 를 받고,
+ * /validation/api/items/add 의 full 모드는 데이터 바인더의 검증기로 사용한다. (어느 경로든 같은 요청을 같은 오류로 거절한다)
+ * 여러 스레드에서 동시에 호출해도 된다.
+ * validation.compiled.enabled=true 이면 Bean Validation 대신 컴파일 시점에 생성된 검증기를 사용한다.
+ */
+@Component
+public class ItemFormValidator implements org.springframework.validation.Validator {
+
+    private final org.springframework.validation.Validator validator;
+    private MessageCodesResolver messageCodesResolver;
+
+    public ItemFormValidator(Validator validator) {
+        this(validator, false);
+    }
+
+    @Autowired
+    public ItemFormValidator(Validator validator, @Value("${validation.compiled.enabled:false}") boolean compiled) {
+        this.validator = compiled ? new ItemSaveFormCompiledValidator() : new SpringValidatorAdapter(validator);
+    }
+
+    /**
+     * 컨트롤러 바인딩과 같은 MessageCodesResolver 를 사용한다. (MessageCodesResolverConfig, 없으면 기본값)
+     */
+    @Autowired(required = false)
+    public void setMessageCodesResolver(MessageCodesResolver messageCodesResolver) {
+        this.messageCodesResolver = messageCodesResolver;
+    }
+
+    /**
+     * 컨트롤러 밖에서 ItemSaveForm 오류를 담을 BindingResult
+     */
+    public BindingResult newBindingResult(ItemSaveForm form) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        if (messageCodesResolver != null) {
+            bindingResult.setMessageCodesResolver(messageCodesResolver);
+        }
+        return bindingResult;
+    }
+
+    public BindingResult validate(ItemSaveForm form) {
+        BindingResult bindingResult = newBindingResult(form);
+        validate(form, bindingResult);
+        return bindingResult;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return ItemSaveForm.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validator.validate(target, errors);
+
+        // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
+        ItemRules.validate((ItemSaveForm) target, errors); // 가격, 수량 필드 오류가 없을 때만 검사
+    }
+}
@@ -1,6 +1,7 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.rule.ItemRules;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
@@ -28,26 +29,44 @@ public class ItemValidator implements Validator {
     public void validate(Object target, Errors errors) {
         Item item = (Item) target; // 검증 대상
 
+        validateItemName(item, errors);
+        validatePrice(item, errors);
+        validateQuantity(item, errors);
+
+        // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
+        ItemRules.validate(item, errors); // 가격, 수량 필드 오류가 없을 때만 검사
+
+    }
+
+    /**
+     * 필드별 검증 3개를 룰로, 복합 룰을 after 로 등록한 AdaptiveValidator 빌더 (AdaptiveValidationConfig)
+     */
+    public AdaptiveValidator.Builder adaptiveRules() {
+        return AdaptiveValidator.builder(Item.class)
+                .rule("itemName", (target, errors, hints) -> validateItemName((Item) target, errors))
+                .rule("price", (target, errors, hints) -> validatePrice((Item) target, errors))
+                .rule("quantity", (target, errors, hints) -> validateQuantity((Item) target, errors))
+                .after((target, errors) -> ItemRules.validate((Item) target, errors));
+    }
+
+    /**
+     * 필드별 검증, 서로 독립적이므로 어떤 순서로 호출해도 결과가 같다. (adaptiveRules() 로 순서를 바꿀 수 있다)
+     */
+    public void validateItemName(Item item, Errors errors) {
         if (!StringUtils.hasText(item.getItemName())) {
             errors.rejectValue("itemName", "required");
         }
+    }
 
+    public void validatePrice(Item item, Errors errors) {
         if (item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000) {
             errors.rejectValue("price", "range", new Object[]{1000, 1000000}, null);
         }
+    }
 
+    public void validateQuantity(Item item, Errors errors) {
         if (item.getQuantity() == null || item.getQuantity() >= 9999) {
             errors.rejectValue("quantity", "max", new Object[]{9999}, null);
         }
-
-        // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-
-            if (resultPrice < 10000) {
-                errors.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
-
     }
 }
@@ -0,0 +1,74 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @ModelAttribute, @RequestBody 인자 처리(바인딩 + 검증) 시간을 잰다.
+ * 결과(outcome)는 BindingResult 에 오류가 있으면 invalid, 검증 예외(BindException, MethodArgumentNotValidException)면 invalid,
+ * 그 밖의 예외(잘못된 JSON 등)는 error 로 기록한다.
+ * 만든 BindingResult 는 ValidationMetricsInterceptor 에 넘겨서 요청이 끝난 뒤 오류 코드별로 센다.
+ */
+public class TimedArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final HandlerMethodArgumentResolver delegate;
+    private final ValidationMetrics metrics;
+
+    public TimedArgumentResolver(HandlerMethodArgumentResolver delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return delegate.supportsParameter(parameter);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            Object argument = delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+            BindingResult bindingResult = bindingResultOf(mavContainer, argument);
+            if (bindingResult != null) {
+                ValidationMetricsInterceptor.register(webRequest, bindingResult);
+            }
+            outcome = bindingResult != null && bindingResult.hasErrors() ? "invalid" : "valid";
+            return argument;
+        } catch (BindException e) {
+            ValidationMetricsInterceptor.register(webRequest, e.getBindingResult());
+            outcome = "invalid";
+            throw e;
+        } catch (MethodArgumentNotValidException e) {
+            // BindingResult 인자 없는 @RequestBody @Valid (Spring 5.3 에서는 BindException 이 아니다)
+            ValidationMetricsInterceptor.register(webRequest, e.getBindingResult());
+            outcome = "invalid";
+            throw e;
+        } finally {
+            metrics.recordBinding(parameter.getMethod(), outcome, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 인자 처리기는 BindingResult 를 model 에 "org.springframework.validation.BindingResult.{이름}" 으로 넣어 둔다.
+     */
+    private BindingResult bindingResultOf(ModelAndViewContainer mavContainer, Object argument) {
+        if (mavContainer == null) {
+            return null;
+        }
+        for (Object value : mavContainer.getModel().values()) {
+            if (value instanceof BindingResult && ((BindingResult) value).getTarget() == argument) {
+                return (BindingResult) value;
+            }
+        }
+        return null;
+    }
+}
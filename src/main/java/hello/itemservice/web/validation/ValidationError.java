@@ -0,0 +1,126 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API 오류 응답 (간단한 형식)
+ * {"field":"price","code":"Range","message":"1000 ~ 1000000 사이여야 합니다","rejectedValue":0}
+ *
+ * - message 는 서버에서 요청 로케일로 미리 찾아서 넣는다. (codes, arguments 등은 보내지 않는다)
+ * - 글로벌 오류(totalPriceMin 등)는 field, rejectedValue 가 없다.
+ * - 직렬화는 리플렉션 없이 Serializer 가 직접 쓴다. 필드명과 field/code 값은 JSON 으로 인코딩된 문자열(SerializedString)을 재사용한다.
+ */
+@Getter
+@JsonSerialize(using = ValidationError.Serializer.class)
+public class ValidationError {
+
+    private final String field;
+    private final String code;
+    private final String message;
+    private final Object rejectedValue;
+
+    public ValidationError(String field, String code, String message, Object rejectedValue) {
+        this.field = field;
+        this.code = code;
+        this.message = message;
+        this.rejectedValue = rejectedValue;
+    }
+
+    public static List<ValidationError> listOf(BindingResult bindingResult, MessageSource messageSource, Locale locale) {
+        List<ValidationError> errors = new ArrayList<>(bindingResult.getErrorCount());
+        for (ObjectError error : bindingResult.getAllErrors()) {
+            errors.add(of(error, messageSource, locale));
+        }
+        return errors;
+    }
+
+    public static ValidationError of(ObjectError error, MessageSource messageSource, Locale locale) {
+        String message;
+        try {
+            message = messageSource.getMessage(error, locale);
+        } catch (NoSuchMessageException e) {
+            message = error.getCode();
+        }
+
+        if (error instanceof FieldError) {
+            FieldError fieldError = (FieldError) error;
+            return new ValidationError(fieldError.getField(), error.getCode(), message, fieldError.getRejectedValue());
+        }
+        return new ValidationError(null, error.getCode(), message, null);
+    }
+
+    static class Serializer extends JsonSerializer<ValidationError> {
+
+        private static final SerializedString FIELD = new SerializedString("field");
+        private static final SerializedString CODE = new SerializedString("code");
+        private static final SerializedString MESSAGE = new SerializedString("message");
+        private static final SerializedString REJECTED_VALUE = new SerializedString("rejectedValue");
+        private static final int MAX_CACHED_VALUES = 1024;
+
+        /**
+         * field, code 값은 폼 필드명과 오류 코드뿐이므로 인코딩 결과를 캐시한다.
+         */
+        private static final Map<String, SerializableString> values = new ConcurrentHashMap<>();
+
+        @Override
+        public void serialize(ValidationError error, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            if (error.field != null) {
+                gen.writeFieldName(FIELD);
+                gen.writeString(cached(error.field));
+            }
+            if (error.code != null) {
+                gen.writeFieldName(CODE);
+                gen.writeString(cached(error.code));
+            }
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(error.message);
+            if (error.field != null) {
+                gen.writeFieldName(REJECTED_VALUE);
+                writeValue(error.rejectedValue, gen, provider);
+            }
+            gen.writeEndObject();
+        }
+
+        private void writeValue(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value == null) {
+                gen.writeNull();
+            } else if (value instanceof String) {
+                gen.writeString((String) value);
+            } else if (value instanceof Integer || value instanceof Long) {
+                gen.writeNumber(((Number) value).longValue());
+            } else {
+                provider.defaultSerializeValue(value, gen);
+            }
+        }
+
+        private SerializableString cached(String value) {
+            SerializableString serialized = values.get(value);
+            if (serialized == null) {
+                serialized = new SerializedString(value);
+                if (values.size() < MAX_CACHED_VALUES) {
+                    values.putIfAbsent(value, serialized);
+                }
+            }
+            return serialized;
+        }
+    }
+}
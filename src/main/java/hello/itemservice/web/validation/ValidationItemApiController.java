@@ -1,31 +1,122 @@
 package hello.itemservice.web.validation;
 
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
 import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 @Slf4j
 @RestController
 @RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
 public class ValidationItemApiController {
 
+    static final String VALIDATION_MODE_HEADER = "X-Validation-Mode";
+    static final String FAIL_FAST = "fail-fast";
+
+    private final ItemRepository itemRepository;
+    private final ItemFormValidator itemFormValidator;
+    private final MessageSource messageSource;
+    private final ValidationMetrics validationMetrics;
+    private final ObjectProvider<AdaptiveValidator> adaptiveFailFastValidator; // validation.adaptive.enabled=true 일 때만 있다.
+    private final FailFastItemSaveFormValidator failFastValidator = new FailFastItemSaveFormValidator();
+
+    /**
+     * 검증 모드 (full: 모든 오류 반환, fail-fast: 첫 오류에서 멈춤)
+     * 기본값은 validation.api.fail-fast 설정, 요청마다 X-Validation-Mode 헤더로 바꿀 수 있다.
+     * 두 모드 모두 필드 검증 + 복합 룰(totalPriceMin)을 검사하므로, 모드에 따라 통과하는 요청이 달라지지 않는다.
+     * (full 모드는 일괄 등록, NDJSON 등록과 같은 ItemFormValidator)
+     * validation.adaptive.enabled=true 이면 fail-fast 모드는 자주 거절되는 필드부터 검사한다.
+     * 그래서 오류가 여러 개인 요청이 돌려받는 첫 오류는 최근 요청의 거절 패턴에 따라 달라질 수 있다.
+     */
+    @Value("${validation.api.fail-fast:false}")
+    private boolean failFastByDefault;
+
+    @InitBinder("itemSaveForm")
+    public void init(WebDataBinder dataBinder, @RequestHeader(value = VALIDATION_MODE_HEADER, required = false) String mode) {
+        boolean failFast = mode == null ? failFastByDefault : FAIL_FAST.equalsIgnoreCase(mode);
+        if (failFast) {
+            AdaptiveValidator adaptive = adaptiveFailFastValidator.orderedStream()
+                    .filter(validator -> validator.supports(ItemSaveForm.class))
+                    .findFirst().orElse(null);
+            dataBinder.setValidator(adaptive != null ? adaptive : failFastValidator);
+        } else {
+            dataBinder.setValidator(itemFormValidator);
+        }
+    }
+
+    /**
+     * 검증 오류는 ValidationError(field, code, message, rejectedValue) 목록으로 반환한다.
+     * verbose=true 이면 이전 형식(ObjectError, FieldError 전체)으로 반환한다.
+     */
     @PostMapping("/add")
-    public Object addItem(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult) {
+    public Object addItem(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult,
+                          @RequestParam(defaultValue = "false") boolean verbose, Locale locale) {
 
         log.info("API 컨트롤러 호출");
 
         if (bindingResult.hasErrors()) {
             log.info("검증 오류 발생 errors={}", bindingResult);
-            return bindingResult.getAllErrors(); // 모든 오류(Object Error, Field Error) 반환
-            // @RestController 이므로 JSON 형태로 에러를 받을 수 있다.
+            if (verbose) {
+                return bindingResult.getAllErrors(); // 모든 오류(Object Error, Field Error) 반환
+                // @RestController 이므로 JSON 형태로 에러를 받을 수 있다.
+            }
+            return ValidationError.listOf(bindingResult, messageSource, locale);
         }
 
         log.info("성공 로직 실행");
         return form;
     }
+
+    /**
+     * 일괄 등록
+     * 검증은 여러 코어에서 병렬로 수행하고, 저장은 요청 배열 순서대로 해서 id 와 결과 순서가 항상 같게 한다.
+     */
+    @PostMapping("/add-batch")
+    public List<ItemBatchResult> addItems(@RequestBody List<ItemSaveForm> forms) {
+
+        log.info("API 일괄 등록 호출 size={}", forms.size());
+
+        // 1. 병렬 검증 (collect 는 요청 순서를 유지한다)
+        List<BindingResult> bindingResults = IntStream.range(0, forms.size())
+                .parallel()
+                .mapToObj(i -> itemFormValidator.validate(forms.get(i) == null ? new ItemSaveForm() : forms.get(i)))
+                .collect(Collectors.toList());
+
+        // 2. 순서대로 저장
+        List<ItemBatchResult> results = new ArrayList<>(forms.size());
+        for (int i = 0; i < forms.size(); i++) {
+            BindingResult bindingResult = bindingResults.get(i);
+            if (bindingResult.hasErrors()) {
+                validationMetrics.rejected(bindingResult); // 요청 본문의 List 원소별 BindingResult 는 인자 처리기가 모르므로 직접 센다.
+                results.add(ItemBatchResult.rejected(i, bindingResult.getAllErrors()));
+                continue;
+            }
+
+            ItemSaveForm form = forms.get(i);
+            Item item = new Item(form.getItemName(), form.getPrice(), form.getQuantity());
+            results.add(ItemBatchResult.saved(i, itemRepository.save(item).getId()));
+        }
+        return results;
+    }
 }
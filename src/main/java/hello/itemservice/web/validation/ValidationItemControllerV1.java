@@ -1,18 +1,20 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSortType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -23,15 +25,39 @@ public class ValidationItemControllerV1 {
 
     private final ItemRepository itemRepository;
 
+    /**
+     * 커서 기반 페이지 조회 (sort = id, price, name)
+     * stream=true 이면 페이지를 나누지 않고 size 단위로 끊어 읽으면서 행을 바로 응답에 쓴다.
+     */
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(defaultValue = "id") String sort,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItems(webRequest, itemRepository)) {
+            return null; // 304 Not Modified
+        }
+        ItemSortType sortType = ItemSortType.from(sort);
+        model.addAttribute("sort", sortType.name().toLowerCase());
+        model.addAttribute("size", size);
+
+        if (stream) {
+            model.addAttribute("items", itemRepository.iterate(sortType, size));
+            return "validation/v1/items";
+        }
+
+        ItemPage page = itemRepository.findPage(sortType, cursor, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v1/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v1/item";
@@ -91,7 +117,10 @@ public class ValidationItemControllerV1 {
     }
 
     @GetMapping("/{itemId}/edit")
-    public String editForm(@PathVariable Long itemId, Model model) {
+    public String editForm(@PathVariable Long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v1/editForm";
@@ -1,9 +1,13 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSortType;
+import hello.itemservice.web.validation.rule.ItemRules;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,12 +15,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
+import org.springframework.validation.Validator;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 
 @Slf4j
 @Controller
@@ -24,9 +29,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ValidationItemControllerV2 {
 
-    // ValidationItemControllerV2의 생성자 파라미터 2개
+    // ValidationItemControllerV2의 생성자 파라미터 3개
     private final ItemRepository itemRepository;
     private final ItemValidator itemValidator;
+    private final ObjectProvider<AdaptiveValidator> adaptiveValidators; // validation.adaptive.enabled=true 일 때만 있다.
 
 /*    @Autowired
     public ValidationItemControllerV2(ItemRepository itemRepository, ItemValidator itemValidator) {
@@ -38,21 +44,64 @@ public class ValidationItemControllerV2 {
      * @param dataBinder
      * ValidationItemControllerV2 컨트롤러가 호출될 때 마다
      * 자동으로 @InitBinder init 메소드가 호출된다.
+     * 이름을 지정하지 않으면 @RequestParam, @PathVariable 변환용 바인더마다 호출되므로 검증 대상(item)만 지정한다.
      */
-    @InitBinder
-    public void init(WebDataBinder dataBinder) {
-        dataBinder.addValidators(itemValidator); // 검증 Validator 넘김
+    @InitBinder("item")
+    public void init(WebDataBinder dataBinder,
+                     @RequestHeader(value = ValidationItemApiController.VALIDATION_MODE_HEADER, required = false) String mode) {
+        dataBinder.addValidators(validatorFor(mode)); // 검증 Validator 넘김
     }
 
+    /**
+     * X-Validation-Mode: fail-fast 이고 validation.adaptive.enabled=true 이면 ItemValidator 의 룰을
+     * 거절률 순으로 검사하다가 첫 오류에서 멈춘다. (첫 오류가 어느 필드인지는 최근 요청에 따라 달라진다)
+     * 그 밖에는 모든 오류를 보여준다.
+     */
+    private Validator validatorFor(String mode) {
+        if (ValidationItemApiController.FAIL_FAST.equalsIgnoreCase(mode)) {
+            AdaptiveValidator adaptive = adaptiveValidators.orderedStream()
+                    .filter(validator -> validator.supports(Item.class))
+                    .findFirst().orElse(null);
+            if (adaptive != null) {
+                return adaptive;
+            }
+        }
+        return itemValidator;
+    }
+
+    /**
+     * 커서 기반 페이지 조회 (sort = id, price, name)
+     * stream=true 이면 페이지를 나누지 않고 size 단위로 끊어 읽으면서 행을 바로 응답에 쓴다.
+     */
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(defaultValue = "id") String sort,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItems(webRequest, itemRepository)) {
+            return null; // 304 Not Modified
+        }
+        ItemSortType sortType = ItemSortType.from(sort);
+        model.addAttribute("sort", sortType.name().toLowerCase());
+        model.addAttribute("size", size);
+
+        if (stream) {
+            model.addAttribute("items", itemRepository.iterate(sortType, size));
+            return "validation/v2/items";
+        }
+
+        ItemPage page = itemRepository.findPage(sortType, cursor, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v2/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v2/item";
@@ -304,13 +353,7 @@ public class ValidationItemControllerV2 {
         }
 
         // 3. 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        ItemRules.validate(item, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
 
         // 4. 검증에 실패하면 다시 입력 폼으로
         /**
@@ -379,7 +422,10 @@ public class ValidationItemControllerV2 {
 
 
     @GetMapping("/{itemId}/edit")
-    public String editForm(@PathVariable Long itemId, Model model) {
+    public String editForm(@PathVariable Long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v2/editForm";
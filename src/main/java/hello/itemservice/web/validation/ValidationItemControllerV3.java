@@ -1,19 +1,23 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSortType;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.rule.ItemRules;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 
 @Slf4j
 @Controller
@@ -22,17 +26,49 @@ import java.util.List;
 public class ValidationItemControllerV3 {
 
     private final ItemRepository itemRepository;
+    private final GroupPlanValidator groupPlanValidator;
+
+    /**
+     * @Validated(SaveCheck.class), @Validated(UpdateCheck.class) 를 (클래스, 그룹) 별로 캐시한 검증 계획으로 실행한다.
+     */
+    @InitBinder("item")
+    public void init(WebDataBinder dataBinder) {
+        dataBinder.setValidator(groupPlanValidator);
+    }
 
-
+    /**
+     * 커서 기반 페이지 조회 (sort = id, price, name)
+     * stream=true 이면 페이지를 나누지 않고 size 단위로 끊어 읽으면서 행을 바로 응답에 쓴다.
+     */
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(defaultValue = "id") String sort,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItems(webRequest, itemRepository)) {
+            return null; // 304 Not Modified
+        }
+        ItemSortType sortType = ItemSortType.from(sort);
+        model.addAttribute("sort", sortType.name().toLowerCase());
+        model.addAttribute("size", size);
+
+        if (stream) {
+            model.addAttribute("items", itemRepository.iterate(sortType, size));
+            return "validation/v3/items";
+        }
+
+        ItemPage page = itemRepository.findPage(sortType, cursor, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
         return "validation/v3/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v3/item";
@@ -48,13 +84,7 @@ public class ValidationItemControllerV3 {
     public String addItem(@Validated @ModelAttribute Item item, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
 
         // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        ItemRules.validate(item, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
@@ -74,13 +104,7 @@ public class ValidationItemControllerV3 {
     public String addItem2(@Validated(SaveCheck.class) @ModelAttribute Item item, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
 
         // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        ItemRules.validate(item, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
@@ -97,7 +121,10 @@ public class ValidationItemControllerV3 {
     }
 
     @GetMapping("/{itemId}/edit")
-    public String editForm(@PathVariable Long itemId, Model model) {
+    public String editForm(@PathVariable Long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v3/editForm";
@@ -107,13 +134,7 @@ public class ValidationItemControllerV3 {
     public String edit(@PathVariable Long itemId, @Validated @ModelAttribute Item item, BindingResult bindingResult) {
 
         // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        ItemRules.validate(item, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
 
         // 검증에 실패하면 다시 수정 폼으로 이동
         if (bindingResult.hasErrors()) {
@@ -130,13 +151,7 @@ public class ValidationItemControllerV3 {
     public String editV2(@PathVariable Long itemId, @Validated(UpdateCheck.class) @ModelAttribute Item item, BindingResult bindingResult) {
 
         // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        ItemRules.validate(item, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
 
         // 검증에 실패하면 다시 수정 폼으로 이동
         if (bindingResult.hasErrors()) {
@@ -1,11 +1,14 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSortType;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
 import hello.itemservice.web.validation.form.ItemSaveForm;
 import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.rule.ItemRules;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -13,9 +16,9 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 
 @Slf4j
 @Controller
@@ -26,15 +29,68 @@ public class ValidationItemControllerV4 {
     private final ItemRepository itemRepository;
 
 
+    /**
+     * 커서 기반 페이지 조회 (sort = id, price, name)
+     * stream=true 이면 페이지를 나누지 않고 size 단위로 끊어 읽으면서 행을 바로 응답에 쓴다.
+     */
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
-        model.addAttribute("items", items);
+    public String items(@RequestParam(defaultValue = "id") String sort,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItems(webRequest, itemRepository)) {
+            return null; // 304 Not Modified
+        }
+        ItemSortType sortType = ItemSortType.from(sort);
+        model.addAttribute("sort", sortType.name().toLowerCase());
+        model.addAttribute("size", size);
+
+        if (stream) {
+            model.addAttribute("items", itemRepository.iterate(sortType, size));
+            return "validation/v4/items";
+        }
+
+        ItemPage page = itemRepository.findPage(sortType, cursor, size);
+        model.addAttribute("items", page.getItems());
+        model.addAttribute("page", page);
+        return "validation/v4/items";
+    }
+
+    /**
+     * 보조 인덱스를 사용한 검색 (전체 목록을 훑지 않는다)
+     */
+    @GetMapping("/search/name")
+    public String searchByName(@RequestParam String prefix,
+                               @RequestParam(defaultValue = "20") int size,
+                               Model model) {
+        model.addAttribute("items", itemRepository.findByNamePrefix(prefix, size));
+        return "validation/v4/items";
+    }
+
+    @GetMapping("/search/price")
+    public String searchByPrice(@RequestParam(required = false) Integer min,
+                                @RequestParam(required = false) Integer max,
+                                @RequestParam(defaultValue = "20") int size,
+                                Model model) {
+        model.addAttribute("items", itemRepository.findByPriceRange(min, max, size));
+        return "validation/v4/items";
+    }
+
+    @GetMapping("/search/quantity")
+    public String searchByQuantity(@RequestParam(required = false) Integer min,
+                                   @RequestParam(required = false) Integer max,
+                                   @RequestParam(defaultValue = "20") int size,
+                                   Model model) {
+        model.addAttribute("items", itemRepository.findByQuantityRange(min, max, size));
         return "validation/v4/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v4/item";
@@ -51,13 +107,7 @@ public class ValidationItemControllerV4 {
     public String addItem(@Validated @ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult, RedirectAttributes redirectAttributes) {
 
         // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
-        if (form.getPrice() != null && form.getQuantity() != null) {
-            int resultPrice = form.getPrice() * form.getQuantity();
-
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        ItemRules.validate(form, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
@@ -79,7 +129,10 @@ public class ValidationItemControllerV4 {
     }
 
     @GetMapping("/{itemId}/edit")
-    public String editForm(@PathVariable Long itemId, Model model) {
+    public String editForm(@PathVariable Long itemId, Model model, ServletWebRequest webRequest) {
+        if (ItemCacheHeaders.checkItem(webRequest, itemRepository, itemId)) {
+            return null; // 304 Not Modified
+        }
         Item item = itemRepository.findById(itemId);
         model.addAttribute("item", item);
         return "validation/v4/editForm";
@@ -90,13 +143,7 @@ public class ValidationItemControllerV4 {
     public String edit(@PathVariable Long itemId, @Validated @ModelAttribute("item") ItemUpdateForm form, BindingResult bindingResult) {
 
         // 특정 필드가 아닌 복합 룰 검증 (글로벌 오브젝트 오류)
-        if (form.getPrice() != null && form.getQuantity() != null) {
-            int resultPrice = form.getPrice() * form.getQuantity();
-
-            if (resultPrice < 10000) {
-                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
-            }
-        }
+        ItemRules.validate(form, bindingResult); // 가격, 수량 필드 오류가 없을 때만 검사
 
         // 검증에 실패하면 다시 수정 폼으로 이동
         if (bindingResult.hasErrors()) {
@@ -0,0 +1,191 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON(한 줄에 ItemSaveForm JSON 하나) 스트리밍 등록
+ *
+ * 요청 본문을 한 줄씩 읽어서 바로 검증하고, 통과한 항목은 BATCH_SIZE 개씩 모아서 저장한다.
+ * 줄별 결과도 NDJSON 으로 배치 단위마다 응답에 바로 쓴다. (요청 줄 순서와 같고, 결과의 index 는 1부터 시작하는 줄 번호)
+ *
+ * - 메모리: 한 번에 들고 있는 것은 배치 하나(최대 BATCH_SIZE 줄)와 한 줄(최대 MAX_LINE_BYTES)뿐이다.
+ * - 배압(backpressure): 저장이 끝나야 다음 줄을 읽으므로, 저장소가 느리면 요청 본문을 읽는 속도도 같이 느려진다.
+ *   (읽지 않은 데이터는 TCP 버퍼에 머물고 클라이언트 전송이 멈춘다)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
+public class ValidationItemImportController {
+
+    static final int BATCH_SIZE = 500;
+    static final int MAX_LINE_BYTES = 64 * 1024;
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final ItemRepository itemRepository;
+    private final ItemFormValidator itemFormValidator;
+    private final ObjectMapper objectMapper;
+    private final ValidationMetrics validationMetrics;
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public void importItems(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        log.info("API NDJSON 등록 호출");
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+
+        InputStream in = new BufferedInputStream(request.getInputStream());
+        OutputStream out = response.getOutputStream();
+
+        List<Line> batch = new ArrayList<>(BATCH_SIZE);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        int lineNumber = 0;
+
+        while (true) {
+            int length = readLine(in, buffer);
+            if (length < 0) {
+                break;
+            }
+            lineNumber++;
+            if (length == 0 && buffer.size() == 0) {
+                continue; // 빈 줄
+            }
+
+            batch.add(new Line(lineNumber, length > MAX_LINE_BYTES ? tooLong() : validate(buffer.toByteArray())));
+            if (batch.size() == BATCH_SIZE) {
+                flush(batch, out);
+            }
+        }
+        flush(batch, out);
+
+        log.info("API NDJSON 등록 완료 lines={}", lineNumber);
+    }
+
+    /**
+     * 한 줄을 buffer 에 읽는다. (MAX_LINE_BYTES 를 넘는 부분은 버리고 길이만 센다)
+     * 줄 끝의 \r 은 빼므로 \r\n 으로 끝나는 줄도 같게 처리한다. (\r 은 다음 바이트를 보고 나서 쓴다)
+     * 반환값은 줄의 전체 길이, 더 읽을 줄이 없으면 -1
+     */
+    private int readLine(InputStream in, ByteArrayOutputStream buffer) throws IOException {
+        buffer.reset();
+        int length = 0;
+        boolean carriageReturn = false;
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (carriageReturn) {
+                length = append(buffer, '\r', length);
+            }
+            carriageReturn = b == '\r';
+            if (!carriageReturn) {
+                length = append(buffer, b, length);
+            }
+        }
+        if (b == -1 && length == 0 && !carriageReturn) {
+            return -1;
+        }
+        return length;
+    }
+
+    private static int append(ByteArrayOutputStream buffer, int b, int length) {
+        if (length < MAX_LINE_BYTES) {
+            buffer.write(b);
+        }
+        return length + 1;
+    }
+
+    private BindingResult validate(byte[] json) {
+        ItemSaveForm form;
+        try {
+            form = objectMapper.readValue(json, ItemSaveForm.class);
+        } catch (InvalidFormatException e) {
+            return typeMismatch(e);
+        } catch (JsonProcessingException e) {
+            BindingResult bindingResult = itemFormValidator.newBindingResult(new ItemSaveForm());
+            bindingResult.reject("invalidJson");
+            return bindingResult;
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // 메모리의 byte[] 를 읽으므로 발생하지 않는다.
+        }
+        return itemFormValidator.validate(form == null ? new ItemSaveForm() : form);
+    }
+
+    /**
+     * "price": "abc" 처럼 타입이 맞지 않는 값은 폼 바인딩과 같은 typeMismatch 필드 오류로 만든다.
+     */
+    private BindingResult typeMismatch(InvalidFormatException e) {
+        BindingResult bindingResult = itemFormValidator.newBindingResult(new ItemSaveForm());
+        List<JsonMappingException.Reference> path = e.getPath();
+        if (path.isEmpty() || path.get(0).getFieldName() == null) {
+            bindingResult.reject("invalidJson");
+            return bindingResult;
+        }
+
+        String field = path.get(0).getFieldName();
+        bindingResult.addError(new FieldError("itemSaveForm", field, e.getValue(), true,
+                bindingResult.resolveMessageCodes("typeMismatch", field), null, null));
+        return bindingResult;
+    }
+
+    private BindingResult tooLong() {
+        BindingResult bindingResult = itemFormValidator.newBindingResult(new ItemSaveForm());
+        bindingResult.reject("lineTooLong", new Object[]{MAX_LINE_BYTES}, null);
+        return bindingResult;
+    }
+
+    /**
+     * 배치의 통과 항목을 저장하고 줄별 결과를 응답에 쓴다.
+     */
+    private void flush(List<Line> batch, OutputStream out) throws IOException {
+        for (Line line : batch) {
+            ItemBatchResult result;
+            if (line.bindingResult.hasErrors()) {
+                validationMetrics.rejected(line.bindingResult);
+                result = ItemBatchResult.rejected(line.number, line.bindingResult.getAllErrors());
+            } else {
+                ItemSaveForm form = (ItemSaveForm) line.bindingResult.getTarget();
+                Item item = new Item(form.getItemName(), form.getPrice(), form.getQuantity());
+                result = ItemBatchResult.saved(line.number, itemRepository.save(item).getId());
+            }
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write(NEW_LINE);
+        }
+        out.flush();
+        batch.clear();
+    }
+
+    private static class Line {
+
+        final int number;
+        final BindingResult bindingResult;
+
+        Line(int number, BindingResult bindingResult) {
+            this.number = number;
+            this.bindingResult = bindingResult;
+        }
+    }
+}
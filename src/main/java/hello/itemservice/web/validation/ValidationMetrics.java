@@ -0,0 +1,140 @@
+package hello.itemservice.web.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검증 지표 (Micrometer, /actuator/metrics 에서 확인)
+ *
+ * - validation.binding (Timer): 컨트롤러 메서드별 바인딩 + 검증 시간
+ *   tags: method(컨트롤러.메서드), outcome(valid, invalid, error)
+ * - validation.rejected (Counter): 오류 코드, 필드별 거절 횟수 (글로벌 오류의 field 는 none)
+ *   tags: code(NotBlank, range, totalPriceMin, typeMismatch...), field(itemName, price...)
+ *   요청 처리가 끝난 뒤 BindingResult 에 남은 오류를 센다. (ValidationMetricsInterceptor, 일괄 등록, NDJSON 등록, WebFlux API)
+ *   new FieldError(..., codes, ...) 처럼 코드를 직접 넣은 오류는 첫 '.' 앞부분(required.item.itemName -> required)을,
+ *   코드 없이 메시지만 넣은 오류는 code=none 을 사용한다.
+ *   BindingResult 를 쓰지 않는 V1(오류를 Map 에 직접 담는다)의 거절은 세지 않는다.
+ *
+ * 태그 값은 컨트롤러 메서드, 오류 코드, 폼 필드처럼 코드에 정해진 값뿐이다. (입력 값은 태그로 쓰지 않는다)
+ * 그래도 오류 코드/필드 조합이 MAX_COUNTERS 를 넘으면 나머지는 code=other, field=other 로 모은다.
+ * 만든 Timer, Counter 는 Map 에 보관해서 요청마다 태그를 만들거나 registry 를 조회하지 않는다.
+ */
+@Component
+public class ValidationMetrics {
+
+    static final String BINDING_TIMER = "validation.binding";
+    static final String REJECTED_COUNTER = "validation.rejected";
+    static final String NO_FIELD = "none";
+    static final String NO_CODE = "none";
+    static final String OTHER = "other";
+    static final int MAX_COUNTERS = 256;
+
+    private final MeterRegistry registry;
+    private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger counterCount = new AtomicInteger();
+
+    public ValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void recordBinding(Method method, String outcome, long nanos) {
+        timers.computeIfAbsent(method, Timers::new).get(outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * errors 의 모든 오류(필드 오류, 글로벌 오류)를 센다.
+     */
+    public void rejected(Errors errors) {
+        for (ObjectError error : errors.getAllErrors()) {
+            String field = error instanceof FieldError ? ((FieldError) error).getField() : null;
+            rejected(codeOf(error), field);
+        }
+    }
+
+    public void rejected(String code, String field) {
+        String fieldTag = field == null ? NO_FIELD : field;
+        Map<String, Counter> byField = counters.get(code);
+        Counter counter = byField == null ? null : byField.get(fieldTag);
+        if (counter == null) {
+            counter = register(code, fieldTag);
+        }
+        counter.increment();
+    }
+
+    /**
+     * MessageCodesResolver 로 만든 오류는 마지막 코드가 오류 코드 그대로다. (range.item.price, ..., range)
+     */
+    private static String codeOf(ObjectError error) {
+        String code = error.getCode();
+        if (code == null) {
+            return NO_CODE;
+        }
+        int dot = code.indexOf('.');
+        return dot > 0 ? code.substring(0, dot) : code;
+    }
+
+    private Counter register(String code, String field) {
+        if (counterCount.get() >= MAX_COUNTERS) {
+            return counters.computeIfAbsent(OTHER, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(OTHER, key -> counter(OTHER, OTHER));
+        }
+        return counters.computeIfAbsent(code, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(field, key -> {
+                    counterCount.incrementAndGet();
+                    return counter(code, field);
+                });
+    }
+
+    private Counter counter(String code, String field) {
+        return Counter.builder(REJECTED_COUNTER)
+                .description("검증 오류 코드, 필드별 거절 횟수 (BindingResult 를 쓰지 않는 V1 은 제외)")
+                .tag("code", code)
+                .tag("field", field)
+                .register(registry);
+    }
+
+    private class Timers {
+
+        private final Timer valid;
+        private final Timer invalid;
+        private final Timer error;
+
+        Timers(Method method) {
+            String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            valid = timer(name, "valid");
+            invalid = timer(name, "invalid");
+            error = timer(name, "error");
+        }
+
+        Timer get(String outcome) {
+            switch (outcome) {
+                case "valid":
+                    return valid;
+                case "invalid":
+                    return invalid;
+                default:
+                    return error;
+            }
+        }
+
+        private Timer timer(String method, String outcome) {
+            return Timer.builder(BINDING_TIMER)
+                    .description("컨트롤러 메서드별 바인딩 + 검증 시간")
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
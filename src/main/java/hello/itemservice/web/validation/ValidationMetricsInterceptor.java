@@ -0,0 +1,53 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.validation.BindingResult;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 처리가 끝난 뒤 BindingResult 의 오류를 센다. (validation.rejected)
+ *
+ * 컨트롤러는 바인딩이 끝난 BindingResult 에 오류를 더 넣을 수 있다. (rejectValue, new FieldError(...) 등)
+ * 그래서 인자 처리 시점(TimedArgumentResolver)에는 BindingResult 를 요청 속성에 모아 두기만 하고,
+ * 컨트롤러와 뷰 렌더링이 모두 끝난 afterCompletion 에서 최종 오류를 센다.
+ */
+public class ValidationMetricsInterceptor implements HandlerInterceptor {
+
+    static final String BINDING_RESULTS_ATTRIBUTE = ValidationMetricsInterceptor.class.getName() + ".BINDING_RESULTS";
+
+    private final ValidationMetrics metrics;
+
+    public ValidationMetricsInterceptor(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    static void register(NativeWebRequest webRequest, BindingResult bindingResult) {
+        @SuppressWarnings("unchecked")
+        List<BindingResult> bindingResults = (List<BindingResult>)
+                webRequest.getAttribute(BINDING_RESULTS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (bindingResults == null) {
+            bindingResults = new ArrayList<>(1);
+            webRequest.setAttribute(BINDING_RESULTS_ATTRIBUTE, bindingResults, RequestAttributes.SCOPE_REQUEST);
+        }
+        bindingResults.add(bindingResult);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        @SuppressWarnings("unchecked")
+        List<BindingResult> bindingResults = (List<BindingResult>) request.getAttribute(BINDING_RESULTS_ATTRIBUTE);
+        if (bindingResults == null) {
+            return;
+        }
+        request.removeAttribute(BINDING_RESULTS_ATTRIBUTE);
+        for (BindingResult bindingResult : bindingResults) {
+            metrics.rejected(bindingResult);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package hello.itemservice.web.validation.form;
 
+import hello.itemservice.domain.item.PricedItem;
+import hello.itemservice.processor.CompiledBinding;
+import hello.itemservice.processor.CompiledValidation;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
 
@@ -8,7 +11,9 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Data
-public class ItemUpdateForm {
+@CompiledValidation // 컴파일 시점에 ItemUpdateFormCompiledValidator 생성
+@CompiledBinding // 컴파일 시점에 ItemUpdateFormCompiledBinder 생성
+public class ItemUpdateForm implements PricedItem {
 
     @NotNull
     private Long id;
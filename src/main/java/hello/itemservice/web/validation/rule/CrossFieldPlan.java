@@ -0,0 +1,55 @@
+package hello.itemservice.web.validation.rule;
+
+import org.springframework.validation.Errors;
+
+import java.util.List;
+
+/**
+ * 복합 룰 실행 계획
+ *
+ * 룰 목록과 룰별 필수 필드를 배열로 만들어 두고, 필드 검증이 끝난 BindingResult 에 대해 실행한다.
+ * - 필드 오류가 하나도 없으면 (대부분의 정상 요청) 필드 오류 조회 없이 바로 모든 룰을 검사한다.
+ * - 오류가 있으면 룰마다 필수 필드에 오류가 없는 경우에만 검사한다.
+ *   예) 가격이 범위를 벗어났으면 totalPriceMin 은 검사하지 않는다.
+ * 상태가 없으므로 여러 스레드에서 같은 계획을 공유한다.
+ */
+public final class CrossFieldPlan<T> {
+
+    private final CrossFieldRule<? super T>[] rules;
+    private final String[][] requiredFields;
+
+    @SuppressWarnings("unchecked")
+    private CrossFieldPlan(List<CrossFieldRule<? super T>> rules) {
+        this.rules = rules.toArray(new CrossFieldRule[0]);
+        this.requiredFields = new String[this.rules.length][];
+        for (int i = 0; i < this.rules.length; i++) {
+            requiredFields[i] = this.rules[i].requiredFields().clone();
+        }
+    }
+
+    @SafeVarargs
+    public static <T> CrossFieldPlan<T> of(CrossFieldRule<? super T>... rules) {
+        return new CrossFieldPlan<>(List.of(rules));
+    }
+
+    /**
+     * 필드 검증 뒤에 호출한다. 룰은 글로벌 오류만 남기므로 필드 오류 여부는 처음 한 번만 확인한다.
+     */
+    public void validate(T target, Errors errors) {
+        boolean fieldErrors = errors.hasFieldErrors();
+        for (int i = 0; i < rules.length; i++) {
+            if (!fieldErrors || requiredFieldsValid(requiredFields[i], errors)) {
+                rules[i].check(target, errors);
+            }
+        }
+    }
+
+    private static boolean requiredFieldsValid(String[] fields, Errors errors) {
+        for (String field : fields) {
+            if (errors.hasFieldErrors(field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package hello.itemservice.web.validation.rule;
+
+import org.springframework.validation.Errors;
+
+/**
+ * 여러 필드를 함께 보는 복합 룰 (글로벌 오브젝트 오류)
+ * CrossFieldPlan 이 필드 검증 뒤에 실행한다.
+ */
+public interface CrossFieldRule<T> {
+
+    /**
+     * 룰이 읽는 필드, 이 중 하나라도 필드 오류(타입 오류, 범위 오류 등)가 있으면 룰을 검사하지 않는다.
+     */
+    String[] requiredFields();
+
+    /**
+     * 룰을 어기면 errors.reject(...) 로 오류를 남긴다.
+     */
+    void check(T target, Errors errors);
+}
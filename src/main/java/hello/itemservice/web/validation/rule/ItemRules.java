@@ -0,0 +1,25 @@
+package hello.itemservice.web.validation.rule;
+
+import hello.itemservice.domain.item.PricedItem;
+import org.springframework.validation.Errors;
+
+/**
+ * 상품 복합 룰 선언 (Item, ItemSaveForm, ItemUpdateForm 공통)
+ * 컨트롤러와 검증기는 필드 검증 뒤에 ItemRules.validate(...) 만 호출한다.
+ */
+public abstract class ItemRules {
+
+    /**
+     * 가격 * 수량은 10,000원 이상 (errors.properties: totalPriceMin)
+     */
+    public static final CrossFieldRule<PricedItem> TOTAL_PRICE_MIN = new MinProductRule<>(
+            "totalPriceMin", 10000,
+            "price", PricedItem::getPrice,
+            "quantity", PricedItem::getQuantity);
+
+    public static final CrossFieldPlan<PricedItem> PLAN = CrossFieldPlan.of(TOTAL_PRICE_MIN);
+
+    public static void validate(PricedItem target, Errors errors) {
+        PLAN.validate(target, errors);
+    }
+}
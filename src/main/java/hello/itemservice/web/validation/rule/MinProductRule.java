@@ -0,0 +1,49 @@
+package hello.itemservice.web.validation.rule;
+
+import org.springframework.validation.Errors;
+
+import java.util.function.Function;
+
+/**
+ * 두 필드의 곱이 min 이상이어야 한다. 예) 가격 * 수량 >= 10000
+ * - 곱은 long 으로 계산하므로 int 범위를 넘어도 넘치지 않는다. (int * int 는 항상 long 범위 안)
+ * - 값이 null 이면 검사하지 않는다. (필수 여부는 필드 검증에서 확인)
+ * - 오류 인자: {min, 곱}
+ */
+public class MinProductRule<T> implements CrossFieldRule<T> {
+
+    private final String code;
+    private final long min;
+    private final String[] requiredFields;
+    private final Function<? super T, Integer> left;
+    private final Function<? super T, Integer> right;
+
+    public MinProductRule(String code, long min,
+                          String leftField, Function<? super T, Integer> left,
+                          String rightField, Function<? super T, Integer> right) {
+        this.code = code;
+        this.min = min;
+        this.requiredFields = new String[]{leftField, rightField};
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public String[] requiredFields() {
+        return requiredFields;
+    }
+
+    @Override
+    public void check(T target, Errors errors) {
+        Integer leftValue = left.apply(target);
+        Integer rightValue = right.apply(target);
+        if (leftValue == null || rightValue == null) {
+            return;
+        }
+
+        long product = (long) leftValue * rightValue;
+        if (product < min) {
+            errors.reject(code, new Object[]{min, product}, null);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemPage;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSortType;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 저장소(호출마다 LATENCY 대기)에서 Tomcat 작업 스레드 풀 vs 가상 스레드 처리량 비교
+ * 동시 요청 CONCURRENCY 개를 유지하면서 GET /validation/v4/items/{id} 를 DURATION 동안 호출한다.
+ * Java 21 이상에서 실행해야 한다. (virtualThreadBenchmark 태스크가 Java 21 로 실행한다)
+ * ./gradlew virtualThreadBenchmark
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmark {
+
+    static final Duration LATENCY = Duration.ofMillis(50);
+    static final int CONCURRENCY = 1000;
+    static final Duration DURATION = Duration.ofSeconds(10);
+
+    @Test
+    void platformVsVirtualThreads() throws Exception {
+        run("platform", false);
+        run("virtual", true);
+    }
+
+    private void run(String name, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                ItemServiceApplication.class, SlowRepositoryConfig.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "logging.level.hello.itemservice=warn")
+                .run()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Long itemId = context.getBean(ItemRepository.class).save(new Item("itemA", 10000, 10)).getId();
+            URI uri = URI.create("http://localhost:" + port + "/validation/v4/items/" + itemId);
+
+            HttpClient client = HttpClient.newHttpClient();
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+
+            long start = System.nanoTime();
+            long end = start + DURATION.toNanos();
+            while (System.nanoTime() < end) {
+                if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+                client.sendAsync(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build(),
+                                HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, e) -> {
+                            if (e != null || response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            } else {
+                                completed.incrementAndGet();
+                            }
+                            inFlight.release();
+                        });
+            }
+            inFlight.acquire(CONCURRENCY);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%-8s latency=%dms concurrency=%,d throughput=%,.0f req/s failures=%,d%n",
+                    name, LATENCY.toMillis(), CONCURRENCY, completed.get() / seconds, failures.get());
+        }
+    }
+
+    @Configuration
+    static class SlowRepositoryConfig {
+
+        @Bean
+        @Primary
+        public ItemRepository slowItemRepository() {
+            return new SlowItemRepository(new MemoryItemRepository());
+        }
+    }
+
+    /**
+     * 모든 호출에 LATENCY 만큼 대기하는 저장소 (원격 저장소 흉내)
+     */
+    static class SlowItemRepository implements ItemRepository {
+
+        private final ItemRepository delegate;
+
+        SlowItemRepository(ItemRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Item save(Item item) {
+            sleep();
+            return delegate.save(item);
+        }
+
+        @Override
+        public Item findById(Long id) {
+            sleep();
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Item> findAll() {
+            sleep();
+            return delegate.findAll();
+        }
+
+        @Override
+        public ItemPage findPage(ItemSortType sort, String cursor, int size) {
+            sleep();
+            return delegate.findPage(sort, cursor, size);
+        }
+
+        @Override
+        public List<Item> findByNamePrefix(String prefix, int limit) {
+            sleep();
+            return delegate.findByNamePrefix(prefix, limit);
+        }
+
+        @Override
+        public List<Item> findByPriceRange(Integer minPrice, Integer maxPrice, int limit) {
+            sleep();
+            return delegate.findByPriceRange(minPrice, maxPrice, limit);
+        }
+
+        @Override
+        public List<Item> findByQuantityRange(Integer minQuantity, Integer maxQuantity, int limit) {
+            sleep();
+            return delegate.findByQuantityRange(minQuantity, maxQuantity, limit);
+        }
+
+        @Override
+        public void update(Long itemId, Item updateParam) {
+            sleep();
+            delegate.update(itemId, updateParam);
+        }
+
+        @Override
+        public void clearStore() {
+            delegate.clearStore();
+        }
+
+        @Override
+        public long getVersion(Long itemId) {
+            return delegate.getVersion(itemId);
+        }
+
+        @Override
+        public long getStamp() {
+            return delegate.getStamp();
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarItemRepositoryTest {
+
+    ItemRepository itemRepository = new ColumnarItemRepository();
+
+    @Test
+    void save() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+
+        //when
+        Item savedItem = itemRepository.save(item);
+
+        //then (저장소에서 새로 만든 Item 이므로 값으로 비교)
+        Item findItem = itemRepository.findById(savedItem.getId());
+        assertThat(findItem).isEqualTo(savedItem);
+        assertThat(findItem).isNotSameAs(savedItem);
+    }
+
+    @Test
+    void saveNullValues() {
+        //given
+        Item item = new Item(null, null, null);
+
+        //when
+        Item savedItem = itemRepository.save(item);
+
+        //then
+        Item findItem = itemRepository.findById(savedItem.getId());
+        assertThat(findItem.getItemName()).isNull();
+        assertThat(findItem.getPrice()).isNull();
+        assertThat(findItem.getQuantity()).isNull();
+    }
+
+    @Test
+    void updateItem() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+        long version = itemRepository.getVersion(itemId);
+
+        //when
+        itemRepository.update(itemId, new Item("item2", 20000, 30));
+
+        //then
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getPrice()).isEqualTo(20000);
+        assertThat(findItem.getQuantity()).isEqualTo(30);
+        assertThat(itemRepository.getVersion(itemId)).isGreaterThan(version);
+        assertThat(itemRepository.getStamp()).isEqualTo(itemRepository.getVersion(itemId));
+    }
+
+    @Test
+    void findPage() {
+        //given (초기 용량보다 많이 저장해서 배열 확장도 확인)
+        for (int i = 0; i < 3000; i++) {
+            itemRepository.save(new Item("item" + (i % 7), 1000 + (i % 10), i));
+        }
+
+        //when
+        ItemPage first = itemRepository.findPage(ItemSortType.NAME, null, 3);
+        ItemPage second = itemRepository.findPage(ItemSortType.NAME, first.getNextCursor(), 3);
+
+        //then (이름이 같으면 id 순서)
+        assertThat(first.getItems()).extracting("id").containsExactly(1L, 8L, 15L);
+        assertThat(second.getItems()).extracting("id").containsExactly(22L, 29L, 36L);
+        assertThat(itemRepository.findAll()).hasSize(3000);
+    }
+
+    @Test
+    void search() {
+        //given
+        Item item1 = itemRepository.save(new Item("apple", 1000, 5));
+        Item item2 = itemRepository.save(new Item("apricot", 5000, 50));
+        Item item3 = itemRepository.save(new Item("banana", 9000, 1));
+
+        //when
+        List<Item> byName = itemRepository.findByNamePrefix("ap", 10);
+        List<Item> byPrice = itemRepository.findByPriceRange(2000, 9000, 10);
+        List<Item> byQuantity = itemRepository.findByQuantityRange(null, 5, 10);
+
+        //then
+        assertThat(byName).containsExactly(item1, item2);
+        assertThat(byPrice).containsExactly(item2, item3);
+        assertThat(byQuantity).containsExactly(item3, item1);
+    }
+
+    @Test
+    void searchNullPrefix() {
+        //given
+        Item item1 = itemRepository.save(new Item("banana", 9000, 1));
+        Item item2 = itemRepository.save(new Item("apple", 1000, 5));
+        itemRepository.save(new Item(null, 5000, 50));
+
+        //when, then (null 은 빈 접두사와 같다, 이름이 없는 상품은 제외)
+        assertThat(itemRepository.findByNamePrefix(null, 10)).containsExactly(item2, item1);
+        assertThat(itemRepository.findByNamePrefix("", 10)).containsExactly(item2, item1);
+    }
+
+    @Test
+    void namePages() {
+        //given (null 이름, 같은 이름, 수정으로 바뀐 이름)
+        ColumnarItemRepository repository = new ColumnarItemRepository();
+        repository.save(new Item("b", 1000, 1));
+        repository.save(new Item(null, 1000, 1));
+        repository.save(new Item("a", 1000, 1));
+        repository.save(new Item("b", 1000, 1));
+        repository.save(new Item("c", 1000, 1));
+        repository.update(5L, new Item("a", 1000, 1));
+
+        //when
+        List<Long> ids = new ArrayList<>();
+        ItemPage page = repository.findPage(ItemSortType.NAME, null, 2);
+        page.getItems().forEach(item -> ids.add(item.getId()));
+        while (page.hasNext()) {
+            page = repository.findPage(ItemSortType.NAME, page.getNextCursor(), 2);
+            page.getItems().forEach(item -> ids.add(item.getId()));
+        }
+
+        //then (null -> 이름 순 -> 같은 이름은 id 순)
+        assertThat(ids).containsExactly(2L, 3L, 5L, 1L, 4L);
+        assertThat(repository.findByNamePrefix("c", 10)).isEmpty();
+    }
+
+    @Test
+    void dictionaryShrinks() {
+        //given
+        ColumnarItemRepository repository = new ColumnarItemRepository();
+        for (int i = 0; i < 100; i++) {
+            repository.save(new Item("item" + i, 1000, 1));
+        }
+
+        //when (모든 상품을 같은 이름으로 수정)
+        for (long id = 1; id <= 100; id++) {
+            repository.update(id, new Item("same", 1000, 1));
+        }
+
+        //then (쓰지 않는 이름은 사전에서 빠진다)
+        assertThat(repository.dictionarySize()).isEqualTo(1);
+        assertThat(repository.findByNamePrefix("item", 10)).isEmpty();
+        assertThat(repository.findByNamePrefix("same", 200)).hasSize(100);
+
+        repository.clearStore();
+        assertThat(repository.dictionarySize()).isZero();
+    }
+}
@@ -0,0 +1,129 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DurableItemRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    MemoryItemRepository memoryItemRepository = new MemoryItemRepository();
+
+    @AfterEach
+    void afterEach() {
+        memoryItemRepository.clearStore();
+    }
+
+    @Test
+    void recover() throws IOException {
+        //given
+        DurableItemRepository itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        Item item1 = itemRepository.save(new Item("itemA", 10000, 10));
+        Item item2 = itemRepository.save(new Item("itemB", 20000, 20));
+        itemRepository.update(item1.getId(), new Item("itemC", 30000, 30));
+        itemRepository.close();
+
+        //when (재시작: 메모리를 비우고 로그에서 복구)
+        memoryItemRepository.clearStore();
+        DurableItemRepository recovered = new DurableItemRepository(memoryItemRepository, dir, 600);
+
+        //then
+        assertThat(recovered.findAll()).hasSize(2);
+        assertThat(recovered.findById(item1.getId()).getItemName()).isEqualTo("itemC");
+        assertThat(recovered.findById(item2.getId())).isEqualTo(item2);
+        assertThat(recovered.save(new Item("itemD", 1000, 10)).getId()).isGreaterThan(item2.getId());
+        recovered.close();
+    }
+
+    @Test
+    void recoverFromSnapshot() throws IOException {
+        //given
+        DurableItemRepository itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        Item item1 = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.snapshot();
+        Item item2 = itemRepository.save(new Item("itemB", 20000, 20));
+        itemRepository.update(item1.getId(), new Item("itemC", 30000, 30));
+        itemRepository.close();
+
+        //when
+        memoryItemRepository.clearStore();
+        DurableItemRepository recovered = new DurableItemRepository(memoryItemRepository, dir, 600);
+
+        //then (스냅샷 이전 세그먼트는 지워지고, 스냅샷 + 이후 로그로 복구된다)
+        assertThat(Files.exists(dir.resolve("log-0.dat"))).isFalse();
+        assertThat(Files.exists(dir.resolve("snapshot-1.dat"))).isTrue();
+        assertThat(recovered.findAll()).hasSize(2);
+        assertThat(recovered.findById(item1.getId()).getItemName()).isEqualTo("itemC");
+        assertThat(recovered.findById(item2.getId())).isEqualTo(item2);
+        recovered.close();
+    }
+
+    @Test
+    void truncateTornRecord() throws IOException {
+        //given
+        DurableItemRepository itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.close();
+
+        Path segment = dir.resolve("log-0.dat");
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND); // 쓰다 만 레코드
+
+        //when
+        memoryItemRepository.clearStore();
+        DurableItemRepository recovered = new DurableItemRepository(memoryItemRepository, dir, 600);
+
+        //then
+        assertThat(Files.size(segment)).isEqualTo(validSize);
+        assertThat(recovered.findAll()).containsExactly(item);
+        recovered.close();
+    }
+
+    @Test
+    void failOnCorruptedRecord() throws IOException {
+        //given
+        DurableItemRepository itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.save(new Item("itemB", 20000, 20));
+        itemRepository.close();
+
+        Path segment = dir.resolve("log-0.dat");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[12] ^= 1; // 첫 번째 레코드의 내용, 뒤에 확정된 레코드가 있다.
+        Files.write(segment, bytes);
+
+        //when, then (뒤의 레코드를 버리지 않고 시작을 중단한다)
+        memoryItemRepository.clearStore();
+        assertThatThrownBy(() -> new DurableItemRepository(memoryItemRepository, dir, 600))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(Files.readAllBytes(segment)).isEqualTo(bytes);
+    }
+
+    @Test
+    void failOnTornRecordInOlderSegment() throws IOException {
+        //given (재시작할 때마다 새 세그먼트를 연다)
+        DurableItemRepository itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.close();
+        itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        itemRepository.save(new Item("itemB", 20000, 20));
+        itemRepository.close();
+
+        Files.write(dir.resolve("log-0.dat"), new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        //when, then (마지막 세그먼트가 아니면 잘라내지 않는다)
+        memoryItemRepository.clearStore();
+        assertThatThrownBy(() -> new DurableItemRepository(memoryItemRepository, dir, 600))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
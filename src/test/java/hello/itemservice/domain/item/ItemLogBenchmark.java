@@ -0,0 +1,99 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 쓰기 처리량(fsync 묶음)과 100만 건 복구 시간 측정
+ * ./gradlew benchmark --tests '*ItemLogBenchmark'
+ */
+@Tag("benchmark")
+class ItemLogBenchmark {
+
+    @TempDir
+    Path dir;
+
+    MemoryItemRepository memoryItemRepository = new MemoryItemRepository();
+
+    @AfterEach
+    void afterEach() {
+        memoryItemRepository.clearStore();
+    }
+
+    @Test
+    void writeThroughput() throws Exception {
+        int threadCount = 32;
+        int saveCount = 2000;
+        DurableItemRepository itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < saveCount; i++) {
+                    itemRepository.save(new Item("item" + i, 10000, 10));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        int total = threadCount * saveCount;
+        long commits = itemRepository.getCommitCount();
+        System.out.printf("writes=%,d, threads=%d, elapsedMs=%,d, writes/s=%,d%n",
+                total, threadCount, TimeUnit.NANOSECONDS.toMillis(elapsed), total * 1_000_000_000L / elapsed);
+        System.out.printf("fsync=%,d, records/fsync=%.1f%n", commits, (double) total / commits);
+        itemRepository.close();
+    }
+
+    @Test
+    void recoveryTime() throws Exception {
+        int itemCount = 1_000_000;
+
+        ItemLog itemLog = new ItemLog(dir);
+        itemLog.recover(item -> { }, () -> { });
+        itemLog.start();
+        CompletableFuture<Long> last = null;
+        for (int i = 1; i <= itemCount; i++) {
+            Item item = new Item("item" + i, 10000, 10);
+            item.setId((long) i);
+            last = itemLog.append(item);
+        }
+        last.join();
+        itemLog.close();
+
+        // 1. 로그만으로 복구
+        long start = System.nanoTime();
+        DurableItemRepository itemRepository = new DurableItemRepository(memoryItemRepository, dir, 600);
+        long logReplay = System.nanoTime() - start;
+
+        // 2. 스냅샷으로 복구
+        itemRepository.snapshot();
+        itemRepository.close();
+        memoryItemRepository.clearStore();
+
+        start = System.nanoTime();
+        DurableItemRepository recovered = new DurableItemRepository(memoryItemRepository, dir, 600);
+        long snapshotReplay = System.nanoTime() - start;
+
+        System.out.printf("items=%,d%n", itemCount);
+        System.out.printf("recover from log      : %,d ms%n", TimeUnit.NANOSECONDS.toMillis(logReplay));
+        System.out.printf("recover from snapshot : %,d ms%n", TimeUnit.NANOSECONDS.toMillis(snapshotReplay));
+        recovered.close();
+    }
+}
@@ -0,0 +1,50 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 저장소별 상품 1개당 힙 사용량 측정
+ * ./gradlew benchmark --tests '*ItemRepositoryMemoryBenchmark'
+ */
+@Tag("benchmark")
+class ItemRepositoryMemoryBenchmark {
+
+    static final int ITEM_COUNT = 1_000_000;
+
+    @Test
+    void bytesPerItem() {
+        MemoryItemRepository memoryItemRepository = new MemoryItemRepository();
+        memoryItemRepository.clearStore();
+        long memoryBytes = measure(memoryItemRepository);
+        memoryItemRepository.clearStore();
+
+        long columnarBytes = measure(new ColumnarItemRepository());
+
+        System.out.printf("items=%,d%n", ITEM_COUNT);
+        System.out.printf("memory   : %,d bytes/item%n", memoryBytes / ITEM_COUNT);
+        System.out.printf("columnar : %,d bytes/item%n", columnarBytes / ITEM_COUNT);
+    }
+
+    private long measure(ItemRepository itemRepository) {
+        long before = usedHeap();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            itemRepository.save(new Item("item" + (i % 1000), 1000 + i % 100000, i % 9999));
+        }
+        long after = usedHeap();
+
+        // 측정이 끝날 때까지 저장소가 GC 되지 않도록 사용
+        if (itemRepository.findPage(ItemSortType.ID, null, 1).getItems().isEmpty()) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
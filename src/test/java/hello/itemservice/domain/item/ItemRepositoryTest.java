@@ -3,13 +3,21 @@ package hello.itemservice.domain.item;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
 class ItemRepositoryTest {
 
-    ItemRepository itemRepository = new ItemRepository();
+    ItemRepository itemRepository = new MemoryItemRepository();
 
     @AfterEach
     void afterEach() {
@@ -65,4 +73,185 @@ class ItemRepositoryTest {
         assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
     }
+
+    @Test
+    void version() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 10000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 20000, 20));
+        long version1 = itemRepository.getVersion(item1.getId());
+        long version2 = itemRepository.getVersion(item2.getId());
+        long stamp = itemRepository.getStamp();
+
+        //when
+        itemRepository.update(item1.getId(), new Item("item1", 15000, 10));
+
+        //then 수정한 상품과 전체 스탬프만 커진다.
+        assertThat(version1).isPositive();
+        assertThat(itemRepository.getVersion(item1.getId())).isGreaterThan(version1);
+        assertThat(itemRepository.getVersion(item2.getId())).isEqualTo(version2);
+        assertThat(itemRepository.getStamp()).isGreaterThan(stamp);
+        assertThat(itemRepository.getVersion(-1L)).isZero();
+
+        //when 없는 상품 수정은 스탬프를 바꾸지 않는다.
+        long updated = itemRepository.getStamp();
+        itemRepository.update(-1L, new Item("none", 0, 0));
+        assertThat(itemRepository.getStamp()).isEqualTo(updated);
+
+        //when 비우면 버전은 사라지고 스탬프는 커진다.
+        itemRepository.clearStore();
+        assertThat(itemRepository.getVersion(item1.getId())).isZero();
+        assertThat(itemRepository.getStamp()).isGreaterThan(updated);
+    }
+
+    @Test
+    void findPage() {
+        //given
+        Item item1 = itemRepository.save(new Item("itemC", 30000, 10));
+        Item item2 = itemRepository.save(new Item("itemA", 20000, 20));
+        Item item3 = itemRepository.save(new Item("itemB", 20000, 30));
+
+        //when
+        ItemPage first = itemRepository.findPage(ItemSortType.PRICE, null, 2);
+        ItemPage second = itemRepository.findPage(ItemSortType.PRICE, first.getNextCursor(), 2);
+
+        //then (가격이 같으면 id 순서)
+        assertThat(first.getItems()).containsExactly(item2, item3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getItems()).containsExactly(item1);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void iterate() {
+        //given
+        Item item1 = itemRepository.save(new Item("itemC", 30000, 10));
+        Item item2 = itemRepository.save(new Item("itemA", 20000, 20));
+        Item item3 = itemRepository.save(new Item("itemB", 20000, 30));
+
+        //when
+        List<Item> result = new ArrayList<>();
+        itemRepository.iterate(ItemSortType.NAME, 1).forEach(result::add);
+
+        //then
+        assertThat(result).containsExactly(item2, item3, item1);
+    }
+
+    @Test
+    void search() {
+        //given
+        Item item1 = itemRepository.save(new Item("apple", 1000, 5));
+        Item item2 = itemRepository.save(new Item("apricot", 5000, 50));
+        Item item3 = itemRepository.save(new Item("banana", 9000, 1));
+
+        //when, then
+        assertThat(itemRepository.findByNamePrefix("ap", 10)).containsExactly(item1, item2);
+        assertThat(itemRepository.findByPriceRange(2000, 9000, 10)).containsExactly(item2, item3);
+        assertThat(itemRepository.findByQuantityRange(null, 5, 10)).containsExactly(item3, item1);
+    }
+
+    @Test
+    void searchNullPrefix() {
+        //given
+        Item item1 = itemRepository.save(new Item("banana", 9000, 1));
+        Item item2 = itemRepository.save(new Item("apple", 1000, 5));
+        itemRepository.save(new Item(null, 5000, 50));
+
+        //when, then (null 은 빈 접두사와 같다, 이름이 없는 상품은 제외)
+        assertThat(itemRepository.findByNamePrefix(null, 10)).containsExactly(item2, item1);
+        assertThat(itemRepository.findByNamePrefix("", 10)).containsExactly(item2, item1);
+    }
+
+    @Test
+    void searchAfterUpdate() {
+        //given
+        Item savedItem = itemRepository.save(new Item("apple", 1000, 5));
+
+        //when
+        itemRepository.update(savedItem.getId(), new Item("banana", 20000, 30));
+
+        //then (수정 전 값으로는 더 이상 조회되지 않는다)
+        assertThat(itemRepository.findByNamePrefix("ap", 10)).isEmpty();
+        assertThat(itemRepository.findByPriceRange(null, 1000, 10)).isEmpty();
+        assertThat(itemRepository.findByNamePrefix("ban", 10)).extracting("id").containsExactly(savedItem.getId());
+        assertThat(itemRepository.findByQuantityRange(30, 30, 10)).extracting("id").containsExactly(savedItem.getId());
+    }
+
+    @Test
+    void concurrentSave() throws Exception {
+        //given
+        int threadCount = 8;
+        int saveCount = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < saveCount; i++) {
+                    itemRepository.save(new Item("item", 10000, 10));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then (유실된 저장이나 중복 id 가 없어야 한다)
+        List<Item> result = itemRepository.findAll();
+        Set<Long> ids = new HashSet<>();
+        for (Item item : result) {
+            ids.add(item.getId());
+        }
+        assertThat(result.size()).isEqualTo(threadCount * saveCount);
+        assertThat(ids.size()).isEqualTo(threadCount * saveCount);
+    }
+
+    @Test
+    void concurrentUpdate() throws Exception {
+        //given
+        Item savedItem = itemRepository.save(new Item("item0", 0, 0));
+        Long itemId = savedItem.getId();
+        int threadCount = 8;
+        int updateCount = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when (스레드마다 이름, 가격, 수량을 같은 값으로 맞춰서 수정한다)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int value = t + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < updateCount; i++) {
+                    itemRepository.update(itemId, new Item("item" + value, 1000 * value, value));
+                    Item findItem = itemRepository.findById(itemId);
+                    assertConsistent(findItem);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then (필드가 서로 다른 수정 요청의 값으로 섞이면 안 된다)
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getId()).isEqualTo(itemId);
+        assertConsistent(findItem);
+        assertThat(itemRepository.findAll().size()).isEqualTo(1);
+    }
+
+    private void assertConsistent(Item item) {
+        int value = item.getQuantity();
+        assertThat(item.getItemName()).isEqualTo("item" + value);
+        assertThat(item.getPrice()).isEqualTo(1000 * value);
+    }
 }
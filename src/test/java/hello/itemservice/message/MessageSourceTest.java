@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
 
 import java.util.Locale;
 
@@ -50,4 +51,37 @@ public class MessageSourceTest {
     void enLang() {
         assertThat(ms.getMessage("hello", null, Locale.ENGLISH)).isEqualTo("hello");
     }
-}
\ No newline at end of file
+
+    @Test
+    void errorCodeChain() {
+        // Level1, Level2 코드는 없고 Level3(range.java.lang.Integer) 에서 찾는다.
+        DefaultMessageSourceResolvable resolvable = new DefaultMessageSourceResolvable(
+                new String[]{"range.itemSaveForm.price", "range.price", "range.java.lang.Integer", "range"},
+                new Object[]{1000, 1000000});
+
+        String first = ms.getMessage(resolvable, Locale.KOREA);
+        String second = ms.getMessage(resolvable, Locale.KOREA);
+        assertThat(first).isEqualTo("1,000 ~ 1,000,000 까지의 숫자를 입력해주세요.");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void reload() {
+        assertThat(ms.getMessage("hello", null, Locale.ENGLISH)).isEqualTo("hello");
+        ((PrecompiledMessageSource) ms).reload();
+        assertThat(ms.getMessage("hello", null, Locale.ENGLISH)).isEqualTo("hello");
+        assertThat(ms.getMessage("hello.name", new Object[]{"Spring"}, Locale.ENGLISH)).isEqualTo("hello Spring");
+    }
+
+    @Test
+    void manyLocales() {
+        // 클라이언트가 보낸 로케일 수만큼 캐시가 늘어나지 않는다.
+        PrecompiledMessageSource source = (PrecompiledMessageSource) ms;
+        for (int i = 0; i < 100; i++) {
+            Locale locale = Locale.forLanguageTag("ko-x-client" + i);
+            assertThat(ms.getMessage("hello", null, locale)).isEqualTo("안녕");
+        }
+        assertThat(source.cachedLocales()).isLessThanOrEqualTo(PrecompiledMessageSource.MAX_LOCALES);
+        assertThat(ms.getMessage("hello", null, Locale.ENGLISH)).isEqualTo("hello");
+    }
+}
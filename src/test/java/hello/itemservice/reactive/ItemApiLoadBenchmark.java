@@ -0,0 +1,141 @@
+package hello.itemservice.reactive;
+
+import hello.itemservice.ItemServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * POST /validation/api/items/add 부하 테스트: MVC(Tomcat) vs WebFlux(Netty)
+ *
+ * 두 서버를 같은 JVM 에서 임의 포트로 띄우고, 동시 요청 수(in-flight)를 단계별로 늘리면서
+ * 단계마다 DURATION 동안 처리량, p50/p99 지연시간, 실패 수를 출력한다.
+ * 실패율 1% 미만, p99 1초 미만을 유지한 가장 큰 동시 요청 수를 "최대 동시 연결"로 본다.
+ * ./gradlew benchmark --tests '*ItemApiLoadBenchmark'
+ */
+@Tag("benchmark")
+class ItemApiLoadBenchmark {
+
+    static final int[] CONCURRENCY = {64, 256, 1024, 4096};
+    static final Duration DURATION = Duration.ofSeconds(10);
+    static final int MAX_SAMPLES = 2_000_000;
+
+    static final String VALID = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}";
+    static final String INVALID = "{\"itemName\":\" \",\"price\":0,\"quantity\":10000}";
+
+    @Test
+    void mvcVsWebFlux() throws Exception {
+        try (ConfigurableApplicationContext mvc = new SpringApplicationBuilder(ItemServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "logging.level.hello.itemservice=warn")
+                .run();
+             ConfigurableApplicationContext webFlux = new SpringApplicationBuilder(ReactiveItemApiApplication.class)
+                     .web(WebApplicationType.REACTIVE)
+                     .properties("server.port=0", "logging.level.hello.itemservice=warn")
+                     .run()) {
+
+            run("mvc", port(mvc));
+            run("webflux", port(webFlux));
+        }
+    }
+
+    private void run(String name, int port) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        URI uri = URI.create("http://localhost:" + port + "/validation/api/items/add");
+
+        int maxConcurrency = 0;
+        for (int concurrency : CONCURRENCY) {
+            Result result = load(client, uri, concurrency);
+            System.out.printf("%-8s concurrency=%,6d requests=%,9d failures=%,7d p50=%,8dus p99=%,8dus%n",
+                    name, concurrency, result.requests, result.failures, result.percentile(50), result.percentile(99));
+            if (result.failures * 100L < result.requests && result.percentile(99) < 1_000_000) {
+                maxConcurrency = concurrency;
+            }
+        }
+        System.out.printf("%-8s max concurrency (failures < 1%%, p99 < 1s) = %,d%n", name, maxConcurrency);
+    }
+
+    /**
+     * 동시 요청 수를 concurrency 로 유지한다. (응답이 오면 다음 요청을 보낸다)
+     */
+    private Result load(HttpClient client, URI uri, int concurrency) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicLongArray samples = new AtomicLongArray(MAX_SAMPLES);
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        long end = System.nanoTime() + DURATION.toNanos();
+        while (System.nanoTime() < end) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            int index = requests.getAndIncrement();
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(index % 2 == 0 ? VALID : INVALID))
+                    .build();
+
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        if (e != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        } else if (index < MAX_SAMPLES) {
+                            samples.set(index, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                        }
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(concurrency); // 남은 요청 완료 대기
+
+        int count = Math.min(requests.get(), MAX_SAMPLES);
+        long[] latencies = new long[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (samples.get(i) > 0) {
+                latencies[size++] = samples.get(i);
+            }
+        }
+        return new Result(requests.get(), failures.get(), Arrays.copyOf(latencies, size));
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static class Result {
+
+        final int requests;
+        final int failures;
+        final long[] latencies;
+
+        Result(int requests, int failures, long[] latencies) {
+            this.requests = requests;
+            this.failures = failures;
+            this.latencies = latencies;
+            Arrays.sort(latencies);
+        }
+
+        long percentile(int percent) {
+            if (latencies.length == 0) {
+                return Long.MAX_VALUE;
+            }
+            return latencies[Math.min(latencies.length - 1, latencies.length * percent / 100)];
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package hello.itemservice.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.ItemServiceApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WebFlux 버전(ReactiveItemApiHandler)이 MVC 버전(ValidationItemApiController)과 같은 응답을 주는지 확인한다.
+ * 두 애플리케이션을 임의 포트로 띄우고 같은 요청을 보내서 응답 JSON 을 비교한다.
+ */
+class ReactiveItemApiHandlerTest {
+
+    static final String VALID = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}";
+    static final String INVALID = "{\"itemName\":\" \",\"price\":0,\"quantity\":10000}";
+    static final String LOW_TOTAL = "{\"itemName\":\"a\",\"price\":1000,\"quantity\":1}";
+
+    static ConfigurableApplicationContext mvc;
+    static ConfigurableApplicationContext webFlux;
+    static WebTestClient mvcClient;
+    static WebTestClient webFluxClient;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void beforeAll() {
+        mvc = new SpringApplicationBuilder(ItemServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0")
+                .run();
+        webFlux = new SpringApplicationBuilder(ReactiveItemApiApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("server.port=0")
+                .run();
+        mvcClient = client(mvc);
+        webFluxClient = client(webFlux);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        webFlux.close();
+        mvc.close();
+    }
+
+    @Test
+    void sharedConfig() {
+        // MVC 와 같은 메시지 소스, 오류 코드 생성기를 사용한다.
+        assertThat(webFlux.getBean(MessageSource.class).getClass()).isEqualTo(mvc.getBean(MessageSource.class).getClass());
+        assertThat(webFlux.getBean("messageCodesResolver").getClass()).isEqualTo(mvc.getBean("messageCodesResolver").getClass());
+    }
+
+    @Test
+    void success() throws Exception {
+        JsonNode response = addItem(webFluxClient, VALID, "", null);
+
+        assertThat(response.get("itemName").asText()).isEqualTo("itemA");
+        assertThat(response).isEqualTo(addItem(mvcClient, VALID, "", null));
+    }
+
+    @Test
+    void fullErrors() throws Exception {
+        JsonNode response = addItem(webFluxClient, INVALID, "", "full");
+
+        assertThat(response).hasSize(3);
+        assertThat(response.get(0).get("message").asText()).isNotEqualTo(response.get(0).get("code").asText());
+        // Bean Validation 오류 순서는 정해져 있지 않으므로 순서는 비교하지 않는다.
+        assertThat(response).containsExactlyInAnyOrderElementsOf(addItem(mvcClient, INVALID, "", "full"));
+    }
+
+    @Test
+    void failFastErrors() throws Exception {
+        JsonNode response = addItem(webFluxClient, INVALID, "", "fail-fast");
+
+        assertThat(response).hasSize(1);
+        assertThat(response).isEqualTo(addItem(mvcClient, INVALID, "", "fail-fast"));
+    }
+
+    @Test
+    void totalPriceMinInBothModes() throws Exception {
+        // 검증 모드와 상관없이 복합 룰(totalPriceMin)을 검사한다.
+        for (String mode : new String[]{"full", "fail-fast"}) {
+            JsonNode response = addItem(webFluxClient, LOW_TOTAL, "", mode);
+
+            assertThat(response).hasSize(1);
+            assertThat(response.get(0).get("code").asText()).isEqualTo("totalPriceMin");
+            assertThat(response).isEqualTo(addItem(mvcClient, LOW_TOTAL, "", mode));
+        }
+    }
+
+    @Test
+    void missingBody() {
+        // 본문이 비었거나 없으면 MVC(필수 @RequestBody)와 같이 400
+        for (WebTestClient client : new WebTestClient[]{webFluxClient, mvcClient}) {
+            client.post()
+                    .uri("/validation/api/items/add")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("")
+                    .exchange()
+                    .expectStatus().isBadRequest();
+            client.post()
+                    .uri("/validation/api/items/add")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+    }
+
+    @Test
+    void verboseErrors() throws Exception {
+        JsonNode response = addItem(webFluxClient, INVALID, "?verbose=true", "full");
+
+        assertThat(response).hasSize(3);
+        assertThat(response.get(0).get("codes")).isNotEmpty();
+        assertThat(response).containsExactlyInAnyOrderElementsOf(addItem(mvcClient, INVALID, "?verbose=true", "full"));
+
+        JsonNode failFast = addItem(webFluxClient, INVALID, "?verbose=true", "fail-fast");
+        assertThat(failFast).isEqualTo(addItem(mvcClient, INVALID, "?verbose=true", "fail-fast"));
+    }
+
+    private JsonNode addItem(WebTestClient client, String body, String query, String mode) throws Exception {
+        byte[] response = client.post()
+                .uri("/validation/api/items/add" + query)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Accept-Language", "ko")
+                .headers(headers -> {
+                    if (mode != null) {
+                        headers.set("X-Validation-Mode", mode);
+                    }
+                })
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBody();
+        return objectMapper.readTree(new String(response, StandardCharsets.UTF_8));
+    }
+
+    private static WebTestClient client(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+}
@@ -0,0 +1,115 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.web.validation.FailFastItemSaveFormValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledValidator;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.form.ItemUpdateFormCompiledValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성된 검증기는 Bean Validation 과 같은 필드, 코드, 인자로 오류를 남겨야 한다.
+ */
+public class CompiledValidatorTest {
+
+    Validator beanValidator = new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void saveForm() {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(0);
+        form.setQuantity(10000);
+
+        assertSameErrors(form, new ItemSaveFormCompiledValidator());
+    }
+
+    @Test
+    void saveFormNull() {
+        assertSameErrors(new ItemSaveForm(), new ItemSaveFormCompiledValidator());
+    }
+
+    @Test
+    void updateForm() {
+        ItemUpdateForm form = new ItemUpdateForm();
+        form.setItemName("itemA");
+        form.setPrice(2000000);
+
+        assertSameErrors(form, new ItemUpdateFormCompiledValidator());
+    }
+
+    @Test
+    void failFast() {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(0);
+        form.setQuantity(10000);
+
+        // 첫 오류 하나만 남긴다. 문자열 검사(NotBlank)보다 숫자 범위 검사가 먼저다.
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        new FailFastItemSaveFormValidator().validate(form, bindingResult);
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getFieldError().getField()).isEqualTo("price");
+        assertThat(bindingResult.getFieldError().getCode()).isEqualTo("Range");
+    }
+
+    @Test
+    void failFastTotalPriceMin() {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(1000);
+        form.setQuantity(1);
+
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        new FailFastItemSaveFormValidator().validate(form, bindingResult);
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("totalPriceMin");
+    }
+
+    private void assertSameErrors(Object form, Validator compiledValidator) {
+        BindingResult expected = new BeanPropertyBindingResult(form, "item");
+        beanValidator.validate(form, expected);
+
+        BindingResult actual = new BeanPropertyBindingResult(form, "item");
+        compiledValidator.validate(form, actual);
+
+        assertThat(actual.getErrorCount()).isGreaterThan(0);
+        assertThat(describe(actual)).isEqualTo(describe(expected));
+    }
+
+    private List<String> describe(BindingResult bindingResult) {
+        return bindingResult.getFieldErrors().stream()
+                .sorted(Comparator.comparing(FieldError::getField).thenComparing(FieldError::getCode))
+                .map(error -> error.getField() + " " + String.join(",", error.getCodes()) + " "
+                        + argumentsOf(error) + " " + error.getRejectedValue())
+                .collect(Collectors.toList());
+    }
+
+    private String argumentsOf(FieldError error) {
+        // 첫 번째 인자(필드명 resolvable)는 코드 목록으로 비교
+        Object[] arguments = error.getArguments();
+        StringBuilder result = new StringBuilder();
+        for (Object argument : arguments) {
+            if (argument instanceof MessageSourceResolvable) {
+                result.append(String.join("|", ((MessageSourceResolvable) argument).getCodes()));
+            } else {
+                result.append(argument);
+            }
+            result.append(";");
+        }
+        return result.toString();
+    }
+}
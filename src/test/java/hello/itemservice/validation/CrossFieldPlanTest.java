@@ -0,0 +1,82 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.rule.CrossFieldPlan;
+import hello.itemservice.web.validation.rule.ItemRules;
+import hello.itemservice.web.validation.rule.MinProductRule;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CrossFieldPlanTest {
+
+    @Test
+    void totalPriceMin() {
+        BindingResult bindingResult = validate(new Item("itemA", 1000, 9));
+
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("totalPriceMin");
+        assertThat(bindingResult.getGlobalError().getArguments()).containsExactly(10000L, 9000L);
+    }
+
+    @Test
+    void valid() {
+        assertThat(validate(new Item("itemA", 1000, 10)).hasErrors()).isFalse();
+    }
+
+    @Test
+    void nullValuesSkipped() {
+        assertThat(validate(new Item("itemA", null, 1)).hasErrors()).isFalse();
+    }
+
+    @Test
+    void overflow() {
+        // int 로 곱하면 음수로 넘쳐서 totalPriceMin 이 잘못 발생하던 값
+        Item item = new Item("itemA", 1000000, 5000);
+        assertThat(1000000 * 5000).isNegative();
+
+        assertThat(validate(item).hasErrors()).isFalse();
+    }
+
+    @Test
+    void skippedWhenRequiredFieldInvalid() {
+        Item item = new Item("itemA", 1000, 1);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        bindingResult.rejectValue("quantity", "max", new Object[]{9999}, null);
+
+        ItemRules.validate(item, bindingResult);
+        assertThat(bindingResult.hasGlobalErrors()).isFalse();
+    }
+
+    @Test
+    void checkedWhenOtherFieldInvalid() {
+        Item item = new Item(" ", 1000, 1);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        bindingResult.rejectValue("itemName", "required");
+
+        ItemRules.validate(item, bindingResult);
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("totalPriceMin");
+    }
+
+    @Test
+    void multipleRules() {
+        CrossFieldPlan<Item> plan = CrossFieldPlan.of(
+                ItemRules.TOTAL_PRICE_MIN,
+                new MinProductRule<Item>("idQuantityMin", 1, "id", i -> i.getId() == null ? null : i.getId().intValue(),
+                        "quantity", Item::getQuantity));
+
+        Item item = new Item("itemA", 1000, 1);
+        item.setId(0L);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        plan.validate(item, bindingResult);
+
+        assertThat(bindingResult.getGlobalErrors()).extracting("code").containsExactly("totalPriceMin", "idQuantityMin");
+    }
+
+    private BindingResult validate(Item item) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        ItemRules.validate(item, bindingResult);
+        return bindingResult;
+    }
+}
@@ -0,0 +1,56 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.web.validation.ItemFormValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BindingResult;
+
+import javax.validation.Validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ItemFormValidatorTest {
+
+    ItemFormValidator itemFormValidator = new ItemFormValidator(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void valid() {
+        BindingResult bindingResult = itemFormValidator.validate(form("itemA", 10000, 10));
+        assertThat(bindingResult.hasErrors()).isFalse();
+    }
+
+    @Test
+    void fieldErrors() {
+        BindingResult bindingResult = itemFormValidator.validate(form(" ", 0, 10000));
+
+        // @RequestBody + @Validated 와 같은 오류 코드
+        assertThat(bindingResult.getFieldError("itemName").getCodes()).contains("NotBlank.itemSaveForm.itemName");
+        assertThat(bindingResult.getFieldError("price").getCode()).isEqualTo("Range");
+        assertThat(bindingResult.getFieldError("quantity").getCode()).isEqualTo("Max");
+    }
+
+    @Test
+    void totalPriceMin() {
+        BindingResult bindingResult = itemFormValidator.validate(form("itemA", 1000, 1));
+
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("totalPriceMin");
+        assertThat(bindingResult.getGlobalError().getArguments()).containsExactly(10000L, 1000L);
+    }
+
+    @Test
+    void totalPriceMinSkippedOnFieldError() {
+        // 가격이 범위를 벗어나면 복합 룰은 검사하지 않는다.
+        BindingResult bindingResult = itemFormValidator.validate(form("itemA", 10, 1));
+
+        assertThat(bindingResult.getFieldError("price").getCode()).isEqualTo("Range");
+        assertThat(bindingResult.hasGlobalErrors()).isFalse();
+    }
+
+    private ItemSaveForm form(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+}
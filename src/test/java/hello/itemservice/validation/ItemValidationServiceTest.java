@@ -0,0 +1,104 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.web.validation.GroupPlanValidator;
+import hello.itemservice.web.validation.ItemFormValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemValidationServiceTest {
+
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    ItemValidationService service = new ItemValidationService(new GroupPlanValidator(validator));
+
+    @Test
+    void sameErrorsAsItemFormValidator() {
+        ItemFormValidator itemFormValidator = new ItemFormValidator(validator);
+
+        for (ItemSaveForm form : Arrays.asList(
+                saveForm(" ", 0, 10000),
+                saveForm("itemA", 1000, 1),
+                saveForm(null, null, null),
+                saveForm("itemA", 10000, 10))) {
+            BindingResult bindingResult = service.validate(form);
+            assertThat(bindingResult.getObjectName()).isEqualTo("itemSaveForm");
+            assertThat(describe(bindingResult)).isEqualTo(describe(itemFormValidator.validate(form)));
+        }
+    }
+
+    @Test
+    void updateForm() {
+        ItemUpdateForm form = new ItemUpdateForm();
+        form.setItemName("itemA");
+        form.setPrice(1000);
+        form.setQuantity(1);
+
+        BindingResult bindingResult = service.validate(form);
+
+        assertThat(bindingResult.getObjectName()).isEqualTo("itemUpdateForm");
+        assertThat(bindingResult.getFieldError("id").getCodes()).contains("NotNull.itemUpdateForm.id");
+        // 필드 오류는 id 뿐이므로 복합 룰도 검사한다.
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("totalPriceMin");
+    }
+
+    @Test
+    void item() {
+        BindingResult bindingResult = service.validate(new Item("itemA", 1000, 1), SaveCheck.class);
+
+        assertThat(bindingResult.getObjectName()).isEqualTo("item");
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("totalPriceMin");
+    }
+
+    @Test
+    void validateAllParallelKeepsOrder() {
+        List<ItemSaveForm> forms = new ArrayList<>();
+        for (int i = 0; i < ItemValidationService.PARALLEL_THRESHOLD * 4; i++) {
+            forms.add(i % 3 == 0 ? saveForm(" ", 0, 10000) : saveForm("item" + i, 10000, i % 100 + 1));
+        }
+
+        List<BindingResult> sequential = service.validateAll(forms, false);
+        List<BindingResult> parallel = service.validateAll(forms, true);
+        List<BindingResult> stream = service.validateAll(forms.stream().parallel()).collect(Collectors.toList());
+
+        assertThat(parallel).hasSameSizeAs(forms);
+        for (int i = 0; i < forms.size(); i++) {
+            assertThat(parallel.get(i).getTarget()).isSameAs(forms.get(i));
+            assertThat(stream.get(i).getTarget()).isSameAs(forms.get(i));
+            assertThat(describe(parallel.get(i))).isEqualTo(describe(sequential.get(i)));
+            assertThat(parallel.get(i).hasErrors()).isEqualTo(i % 3 == 0);
+        }
+    }
+
+    private ItemSaveForm saveForm(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+
+    private Set<String> describe(BindingResult bindingResult) {
+        Set<String> errors = new HashSet<>();
+        for (ObjectError error : bindingResult.getAllErrors()) {
+            String field = error instanceof FieldError ? ((FieldError) error).getField() : "";
+            errors.add(field + ":" + Arrays.toString(error.getCodes()) + ":" + Arrays.toString(error.getArguments()));
+        }
+        return errors;
+    }
+}
@@ -1,5 +1,6 @@
 package hello.itemservice.validation;
 
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
 import org.junit.jupiter.api.Test;
 import org.springframework.validation.DefaultMessageCodesResolver;
 import org.springframework.validation.MessageCodesResolver;
@@ -42,4 +43,18 @@ public class MessageCodesResolverTest {
         assertThat(messageCodes).containsExactly("required.item.itemName", "required.itemName", "required.java.lang.String", "required");
         
     }
+
+    @Test
+    void cachingMessageCodesResolver() {
+        MessageCodesResolver cachingResolver = new CachingMessageCodesResolver(codesResolver, 10);
+
+        String[] first = cachingResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+        String[] second = cachingResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+
+        // 결과는 같고, 두 번째부터는 같은 배열을 재사용한다.
+        assertThat(first).containsExactly("range.item.price", "range.price", "range.java.lang.Integer", "range");
+        assertThat(second).isSameAs(first);
+        assertThat(cachingResolver.resolveMessageCodes("range", "item", "price", Long.class))
+                .containsExactly("range.item.price", "range.price", "range.java.lang.Long", "range");
+    }
 }
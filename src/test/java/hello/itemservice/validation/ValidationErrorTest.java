@@ -0,0 +1,38 @@
+package hello.itemservice.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.ValidationError;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidationErrorTest {
+
+    @Test
+    void compactJson() throws Exception {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("range.price", Locale.KOREA, "가격은 {0} ~ {1} 까지 허용합니다.");
+        messageSource.addMessage("totalPriceMin", Locale.KOREA, "전체 가격은 {0}원 이상이어야 합니다. 현재 값 = {1}");
+
+        ItemSaveForm form = new ItemSaveForm();
+        form.setPrice(0);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        bindingResult.rejectValue("price", "range", new Object[]{1000, 1000000}, null);
+        bindingResult.reject("totalPriceMin", new Object[]{10000, 0}, null);
+
+        List<ValidationError> errors = ValidationError.listOf(bindingResult, messageSource, Locale.KOREA);
+        String json = new ObjectMapper().writeValueAsString(errors);
+
+        assertThat(json).isEqualTo("["
+                + "{\"field\":\"price\",\"code\":\"range\",\"message\":\"가격은 1,000 ~ 1,000,000 까지 허용합니다.\",\"rejectedValue\":0},"
+                + "{\"code\":\"totalPriceMin\",\"message\":\"전체 가격은 10,000원 이상이어야 합니다. 현재 값 = 0\"}"
+                + "]");
+    }
+}
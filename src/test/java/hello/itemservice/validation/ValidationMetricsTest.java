@@ -0,0 +1,69 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.ValidationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidationMetricsTest {
+
+    MeterRegistry registry = new SimpleMeterRegistry();
+    ValidationMetrics metrics = new ValidationMetrics(registry);
+
+    @Test
+    void rejectedCounter() {
+        Item item = new Item(" ", 0, 10000);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        new ItemValidator().validate(item, bindingResult);
+        metrics.rejected(bindingResult);
+        metrics.rejected(bindingResult);
+
+        Item lowTotal = new Item("itemA", 1000, 1);
+        BeanPropertyBindingResult lowTotalResult = new BeanPropertyBindingResult(lowTotal, "item");
+        new ItemValidator().validate(lowTotal, lowTotalResult);
+        metrics.rejected(lowTotalResult);
+        metrics.rejected(lowTotalResult);
+
+        assertThat(count("required", "itemName")).isEqualTo(2);
+        assertThat(count("range", "price")).isEqualTo(2);
+        assertThat(count("max", "quantity")).isEqualTo(2);
+        assertThat(count("totalPriceMin", "none")).isEqualTo(2); // 글로벌 오류
+    }
+
+    @Test
+    void explicitErrors() {
+        // V2 처럼 컨트롤러에서 직접 만든 오류
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Item(), "item");
+        bindingResult.addError(new FieldError("item", "price", 0, false,
+                new String[]{"range.item.price"}, new Object[]{1000, 1000000}, null));
+        bindingResult.addError(new FieldError("item", "itemName", "상품 이름은 필수입니다."));
+        bindingResult.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, 1000}, null));
+        metrics.rejected(bindingResult);
+
+        assertThat(count("range", "price")).isEqualTo(1);
+        assertThat(count("none", "itemName")).isEqualTo(1); // 코드 없이 메시지만 넣은 오류
+        assertThat(count("totalPriceMin", "none")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedCounterCardinalityLimit() {
+        for (int i = 0; i < 1000; i++) {
+            metrics.rejected("code" + i, "field");
+        }
+
+        // 제한을 넘는 조합은 other 로 모인다.
+        assertThat(registry.find("validation.rejected").counters()).hasSizeLessThanOrEqualTo(257);
+        assertThat(count("other", "other")).isGreaterThan(0);
+    }
+
+    private double count(String code, String field) {
+        return registry.get("validation.rejected").tag("code", code).tag("field", field).counter().count();
+    }
+}
@@ -0,0 +1,94 @@
+package hello.itemservice.web.binding;
+
+import hello.itemservice.ItemServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 등록 요청 처리량: 기본 바인딩(BeanWrapper) vs 생성된 바인더(binding.compiled.enabled)
+ * 동시 요청 CONCURRENCY 개를 유지하면서 POST /validation/v4/items/add 를 DURATION 동안 호출한다. (WARMUP 은 집계하지 않는다)
+ * - valid: 검증 통과, 저장 후 302 리다이렉트
+ * - typeMismatch: 가격이 숫자가 아님, 등록 폼을 다시 렌더링한다.
+ * ./gradlew benchmark --tests '*FormBindingLoadBenchmark'
+ */
+@Tag("benchmark")
+class FormBindingLoadBenchmark {
+
+    static final int CONCURRENCY = 64;
+    static final Duration WARMUP = Duration.ofSeconds(5);
+    static final Duration DURATION = Duration.ofSeconds(10);
+
+    static final String VALID = "itemName=itemA&price=10000&quantity=10";
+    static final String TYPE_MISMATCH = "itemName=itemA&price=abc&quantity=10";
+
+    @Test
+    void defaultVsCompiledBinding() throws Exception {
+        run("default", false);
+        run("compiled", true);
+    }
+
+    private void run(String name, boolean compiled) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ItemServiceApplication.class)
+                .properties("server.port=0",
+                        "binding.compiled.enabled=" + compiled,
+                        "logging.level.hello.itemservice=warn")
+                .run()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/validation/v4/items/add");
+            HttpClient client = HttpClient.newHttpClient();
+
+            for (String body : new String[]{VALID, TYPE_MISMATCH}) {
+                load(client, uri, body, WARMUP);
+                double throughput = load(client, uri, body, DURATION);
+                System.out.printf("%-8s %-12s concurrency=%d throughput=%,.0f req/s%n",
+                        name, body.equals(VALID) ? "valid" : "typeMismatch", CONCURRENCY, throughput);
+            }
+        }
+    }
+
+    private double load(HttpClient client, URI uri, String body, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        while (System.nanoTime() < end) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        if (e != null || response.statusCode() >= 400) {
+                            failures.incrementAndGet();
+                        } else {
+                            completed.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(CONCURRENCY);
+        if (failures.get() > 0) {
+            System.out.printf("failures=%,d%n", failures.get());
+        }
+        return completed.get() / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,154 @@
+package hello.itemservice.web.binding;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledBinder;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.form.ItemUpdateFormCompiledBinder;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ExtendedServletRequestDataBinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormBindingMethodProcessorTest {
+
+    DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+    MessageSource messageSource = messageSource();
+    FormBindingMethodProcessor processor = new FormBindingMethodProcessor(false,
+            new ItemSaveFormCompiledBinder(), new ItemUpdateFormCompiledBinder());
+
+    @Test
+    void sameAsDefaultBinder() {
+        assertSameBinding(ItemSaveForm::new, request("itemName", "itemA", "price", "10000", "quantity", "10"));
+        // 공백뿐인 숫자는 PropertyEditor 로 한 번 더 변환해서 null 이 된다.
+        WebDataBinder binder = assertSameBinding(ItemSaveForm::new, request("itemName", "", "price", "", "quantity", " "));
+        assertThat(binder.getBindingResult().hasErrors()).isFalse();
+        assertSameBinding(ItemSaveForm::new, request("price", " 1 000 ", "quantity", "0x10"));
+        assertSameBinding(ItemUpdateForm::new, request("id", "1", "itemName", "itemA", "price", "10000"));
+    }
+
+    @Test
+    void typeMismatch() {
+        MockHttpServletRequest request = request("itemName", "itemA", "price", "abc", "quantity", "1.5");
+        WebDataBinder binder = assertSameBinding(ItemSaveForm::new, request);
+
+        FieldError price = binder.getBindingResult().getFieldError("price");
+        assertThat(price.isBindingFailure()).isTrue();
+        assertThat(price.getCodes()).contains("typeMismatch.item.price", "typeMismatch.java.lang.Integer", "typeMismatch");
+        assertThat(price.getRejectedValue()).isEqualTo("abc");
+        assertThat(price.getDefaultMessage()).endsWith("nested exception is java.lang.NumberFormatException: For input string: \"abc\"");
+        assertThat(binder.getBindingResult().getFieldErrorCount()).isEqualTo(2);
+        // 변환에 실패한 필드는 값을 넣지 않는다.
+        assertThat(((ItemSaveForm) binder.getTarget()).getPrice()).isNull();
+
+        assertSameBinding(ItemUpdateForm::new, request("id", "x", "price", "99999999999"));
+    }
+
+    /**
+     * 봇 트래픽에서 볼 수 있는 잘못된 값들, 오류와 메시지가 기본 바인더와 같아야 한다.
+     */
+    @Test
+    void invalidNumbers() {
+        for (String value : new String[]{"-", "+", "--1", "1-", "1e5", "1,000", " 1 2 x", "' OR 1=1 --",
+                "0xZZ", "#", "-0x", "9223372036854775808", "１２x"}) {
+            WebDataBinder binder = assertSameBinding(ItemUpdateForm::new, request("id", value, "price", value, "quantity", value));
+            assertThat(binder.getBindingResult().getFieldErrorCount()).as(value).isEqualTo(3);
+        }
+        // 유니코드 숫자는 기본 바인더도 허용한다.
+        WebDataBinder binder = assertSameBinding(ItemSaveForm::new, request("price", "１２"));
+        assertThat(((ItemSaveForm) binder.getTarget()).getPrice()).isEqualTo(12);
+    }
+
+    @Test
+    void multipleValues() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("itemName", "a", "b");
+        request.addParameter("price", "1000", "abc");
+        request.addParameter("quantity", "x", "10");
+
+        WebDataBinder binder = assertSameBinding(ItemSaveForm::new, request);
+        assertThat(((ItemSaveForm) binder.getTarget()).getItemName()).isEqualTo("a,b");
+        assertThat(((ItemSaveForm) binder.getTarget()).getPrice()).isEqualTo(1000);
+        assertThat(binder.getBindingResult().getFieldError("quantity").getRejectedValue()).isEqualTo("x,10");
+    }
+
+    @Test
+    void fallbackToDefaultBinder() {
+        // 경로 변수로 채우는 필드
+        MockHttpServletRequest request = request("itemName", "itemA");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "5"));
+        assertThat(((ItemUpdateForm) assertSameBinding(ItemUpdateForm::new, request).getTarget()).getId()).isEqualTo(5L);
+
+        // 필드 마커, 기본값
+        request = request("_itemName", "", "!price", "2000");
+        WebDataBinder binder = assertSameBinding(ItemSaveForm::new, request);
+        assertThat(((ItemSaveForm) binder.getTarget()).getPrice()).isEqualTo(2000);
+    }
+
+    /**
+     * 기본 바인더와 생성된 바인더로 각각 바인딩해서 필드 값과 오류가 같은지 확인한다.
+     */
+    private WebDataBinder assertSameBinding(Supplier<Object> form, MockHttpServletRequest request) {
+        ExtendedServletRequestDataBinder expected = binder(form.get());
+        expected.bind(request);
+
+        ExtendedServletRequestDataBinder actual = binder(form.get());
+        processor.bindRequestParameters(actual, new ServletWebRequest(request));
+
+        assertThat(actual.getTarget()).isEqualTo(expected.getTarget());
+        assertThat(describe(actual)).isEqualTo(describe(expected));
+        assertThat(messages(actual)).isEqualTo(messages(expected));
+        return actual;
+    }
+
+    private List<String> messages(WebDataBinder binder) {
+        List<String> messages = new ArrayList<>();
+        for (FieldError error : binder.getBindingResult().getFieldErrors()) {
+            messages.add(messageSource.getMessage(error, Locale.KOREA));
+        }
+        return messages;
+    }
+
+    private static MessageSource messageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        return messageSource;
+    }
+
+    private ExtendedServletRequestDataBinder binder(Object target) {
+        ExtendedServletRequestDataBinder binder = new ExtendedServletRequestDataBinder(target, "item");
+        binder.setConversionService(conversionService);
+        return binder;
+    }
+
+    private List<String> describe(WebDataBinder binder) {
+        List<String> errors = new ArrayList<>();
+        for (FieldError error : binder.getBindingResult().getFieldErrors()) {
+            errors.add(error.getField() + ":" + Arrays.toString(error.getCodes()) + ":" + Arrays.toString(error.getArguments())
+                    + ":" + error.getRejectedValue() + ":" + error.isBindingFailure() + ":" + error.getDefaultMessage());
+        }
+        return errors;
+    }
+
+    private MockHttpServletRequest request(String... nameValues) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/v4/items/add");
+        for (int i = 0; i < nameValues.length; i += 2) {
+            request.addParameter(nameValues[i], nameValues[i + 1]);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,54 @@
+package hello.itemservice.web.binding;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.NumberUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NumberParserTest {
+
+    @Test
+    void sameAsNumberUtils() {
+        List<String> inputs = new ArrayList<>(List.of(
+                "0", "-0", "+5", "00012", " 1 000 ", "\t42\n", "１２", "١٢",
+                "2147483647", "2147483648", "-2147483648", "-2147483649",
+                "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+                "0x7fffffff", "0x80000000", "-0x80000000", "-0x80000001", "#ff", "-#FF", "0XfF",
+                "", " ", "-", "+", "#", "-#", "0x", "+0x10", "0x-1", "--1", "1-", "1e5", "1.5", "1,000", "abc", "' OR 1=1 --"));
+
+        // 숫자, 부호, 16진수 접두어, 공백을 섞은 무작위 문자열
+        String alphabet = "0123456789-+#xX aAfFgz\t.,";
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(12); j >= 0; j--) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            inputs.add(sb.toString());
+        }
+
+        for (String input : inputs) {
+            assertThat(NumberParser.parseInteger(input)).as(input).isEqualTo(parse(input, Integer.class));
+            assertThat(NumberParser.parseLong(input)).as(input).isEqualTo(parse(input, Long.class));
+        }
+    }
+
+    @Test
+    void trimAllWhitespace() {
+        String text = "12345";
+        assertThat(NumberParser.trimAllWhitespace(text)).isSameAs(text);
+        assertThat(NumberParser.trimAllWhitespace(" 1 2\t3 ")).isEqualTo("123");
+    }
+
+    private static <T extends Number> T parse(String text, Class<T> type) {
+        try {
+            return NumberUtils.parseNumber(text, type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
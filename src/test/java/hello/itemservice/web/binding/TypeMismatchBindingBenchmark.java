@@ -0,0 +1,79 @@
+package hello.itemservice.web.binding;
+
+import hello.itemservice.web.validation.form.ItemSaveFormCompiledBinder;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.form.ItemUpdateFormCompiledBinder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ExtendedServletRequestDataBinder;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 잘못된 숫자만 들어오는 요청(100% typeMismatch)의 바인딩 처리량
+ * - default: WebDataBinder -> BeanWrapper, 필드마다 NumberFormatException 두 번(ConversionService, PropertyEditor) + TypeMismatchException
+ * - compiled: 생성된 바인더 + NumberParser, 예외 없이 typeMismatch 오류를 만든다.
+ * 요청 하나에 숫자 필드 3개(id, price, quantity)가 모두 잘못된 값이다.
+ * ./gradlew benchmark --tests '*TypeMismatchBindingBenchmark'
+ */
+@Tag("benchmark")
+class TypeMismatchBindingBenchmark {
+
+    static final int WARMUP = 200_000;
+    static final int ITERATIONS = 1_000_000;
+
+    /**
+     * 퍼징, 봇 트래픽에서 흔한 값들
+     */
+    static final String[] INVALID = {"abc", "1e5", "1.5", "1,000", "--1", "-", "9999999999999999999", "' OR 1=1 --", "null", "１２x"};
+
+    DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+    FormBindingMethodProcessor processor = new FormBindingMethodProcessor(false,
+            new ItemSaveFormCompiledBinder(), new ItemUpdateFormCompiledBinder());
+
+    @Test
+    void defaultVsCompiled() {
+        MockHttpServletRequest[] requests = new MockHttpServletRequest[INVALID.length];
+        for (int i = 0; i < INVALID.length; i++) {
+            requests[i] = new MockHttpServletRequest("POST", "/validation/v4/items/1/edit");
+            requests[i].addParameter("id", INVALID[i]);
+            requests[i].addParameter("itemName", "itemA");
+            requests[i].addParameter("price", INVALID[(i + 1) % INVALID.length]);
+            requests[i].addParameter("quantity", INVALID[(i + 2) % INVALID.length]);
+        }
+
+        BiConsumer<WebDataBinder, MockHttpServletRequest> defaultBinding =
+                (binder, request) -> ((ExtendedServletRequestDataBinder) binder).bind(request);
+        BiConsumer<WebDataBinder, MockHttpServletRequest> compiledBinding =
+                (binder, request) -> processor.bindRequestParameters(binder, new ServletWebRequest(request));
+
+        run("default", requests, defaultBinding);
+        run("compiled", requests, compiledBinding);
+    }
+
+    private void run(String name, MockHttpServletRequest[] requests, BiConsumer<WebDataBinder, MockHttpServletRequest> binding) {
+        bind(requests, binding, WARMUP);
+
+        long start = System.nanoTime();
+        long errors = bind(requests, binding, ITERATIONS);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-8s requests=%,d, typeMismatch=%,d, ns/request=%,d, requests/s=%,d%n",
+                name, ITERATIONS, errors, elapsed / ITERATIONS, ITERATIONS * 1_000_000_000L / elapsed);
+    }
+
+    private long bind(MockHttpServletRequest[] requests, BiConsumer<WebDataBinder, MockHttpServletRequest> binding, int count) {
+        long errors = 0;
+        for (int i = 0; i < count; i++) {
+            ExtendedServletRequestDataBinder binder = new ExtendedServletRequestDataBinder(new ItemUpdateForm(), "item");
+            binder.setConversionService(conversionService);
+            binding.accept(binder, requests[i % requests.length]);
+            errors += binder.getBindingResult().getErrorCount();
+        }
+        return errors;
+    }
+}
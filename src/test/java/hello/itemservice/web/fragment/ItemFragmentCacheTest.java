@@ -0,0 +1,130 @@
+package hello.itemservice.web.fragment;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemFragmentCacheTest {
+
+    ItemRepository itemRepository = new MemoryItemRepository();
+    AtomicInteger renders = new AtomicInteger();
+
+    /**
+     * 템플릿 엔진 대신 렌더링 횟수와 렌더링에 사용한 상품 값을 남긴다.
+     */
+    ItemFragmentCache cache = new ItemFragmentCache(itemRepository, null, 2) {
+        @Override
+        protected String render(String fragment, String base, Item item, Locale locale) {
+            renders.incrementAndGet();
+            return fragment + ":" + base + ":" + item.getItemName() + ":" + item.getPrice() + ":" + locale;
+        }
+    };
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void cached() {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+
+        String first = cache.row("/validation/v4/items", item);
+        String second = cache.row("/validation/v4/items", item);
+
+        assertThat(second).isSameAs(first);
+        assertThat(renders.get()).isEqualTo(1);
+
+        //조각, 기본 경로, 로케일이 다르면 따로 렌더링한다.
+        cache.detail("/validation/v4/items", item);
+        cache.row("/validation/v1/items", item);
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        cache.row("/validation/v4/items", item);
+        assertThat(renders.get()).isEqualTo(4);
+    }
+
+    @Test
+    void invalidatedByUpdate() {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        cache.row("/validation/v4/items", item);
+
+        itemRepository.update(item.getId(), new Item("itemB", 20000, 10));
+
+        //전달받은 (이전) 객체가 아니라 저장소의 현재 값으로 다시 렌더링한다.
+        String html = cache.row("/validation/v4/items", item);
+        assertThat(html).contains("itemB:20000");
+        assertThat(renders.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void maxEntries() {
+        Item item1 = itemRepository.save(new Item("item1", 10000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 20000, 20));
+        Item item3 = itemRepository.save(new Item("item3", 30000, 30));
+
+        cache.row("/validation/v4/items", item1);
+        cache.row("/validation/v4/items", item2);
+        cache.row("/validation/v4/items", item1);
+        cache.row("/validation/v4/items", item3);
+
+        //가득 차면 가장 오래 사용하지 않은 조각(item2)을 지우고 새 키를 캐시한다. (최대 개수가 작으면 넘친 만큼만 지운다)
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(renders.get()).isEqualTo(3);
+
+        cache.row("/validation/v4/items", item1);
+        cache.row("/validation/v4/items", item3);
+        assertThat(renders.get()).isEqualTo(3);
+        cache.row("/validation/v4/items", item2);
+        assertThat(renders.get()).isEqualTo(4);
+    }
+
+    @Test
+    void removedItem() {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        cache.row("/validation/v4/items", item);
+        assertThat(cache.size()).isEqualTo(1);
+
+        itemRepository.clearStore();
+
+        //저장소에 없는 상품의 조각은 지운다.
+        assertThat(cache.row("/validation/v4/items", item)).contains("itemA");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void notStored() {
+        Item item = new Item("itemA", 10000, 10);
+        item.setId(-1L);
+
+        assertThat(cache.row("/validation/v4/items", item)).contains("itemA");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictInBatch() {
+        ItemFragmentCache cache = new ItemFragmentCache(itemRepository, null, 20) {
+            @Override
+            protected String render(String fragment, String base, Item item, Locale locale) {
+                return fragment + ":" + item.getItemName();
+            }
+        };
+        for (int i = 0; i < 20; i++) {
+            cache.row("/validation/v4/items", itemRepository.save(new Item("item" + i, 10000, 10)));
+        }
+        assertThat(cache.size()).isEqualTo(20);
+
+        //넘치면 넘친 개수 + 최대 개수의 10% 만큼 오래된 조각을 지운다.
+        cache.row("/validation/v4/items", itemRepository.save(new Item("item20", 10000, 10)));
+        assertThat(cache.size()).isEqualTo(18);
+    }
+}
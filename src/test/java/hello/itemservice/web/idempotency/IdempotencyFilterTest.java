@@ -0,0 +1,208 @@
+package hello.itemservice.web.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    IdempotencyCache cache = new IdempotencyCache(100, TimeUnit.MINUTES.toMillis(10));
+    IdempotencyFilter filter = new IdempotencyFilter(cache);
+    AtomicInteger saved = new AtomicInteger();
+
+    @Test
+    void replay() throws Exception {
+        MockHttpServletResponse first = post("key-1");
+        MockHttpServletResponse second = post("key-1");
+
+        assertThat(saved.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(302);
+        assertThat(second.getHeader("Location")).isEqualTo(first.getHeader("Location"));
+        assertThat(second.getHeader(IdempotencyFilter.REPLAY_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void differentKeys() throws Exception {
+        post("key-1");
+        post("key-2");
+        post(null);
+
+        assertThat(saved.get()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentRequestsCoalesce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(executor.submit(() -> {
+                start.await();
+                return post("key-1");
+            }));
+        }
+        start.countDown();
+
+        for (Future<MockHttpServletResponse> response : responses) {
+            assertThat(response.get().getHeader("Location")).isEqualTo("/validation/v4/items/1");
+        }
+        executor.shutdown();
+        assertThat(saved.get()).isEqualTo(1);
+    }
+
+    @Test
+    void formRerenderNotStored() throws Exception {
+        // 검증 실패로 폼을 다시 보여주는 응답은 저장하지 않으므로, 폼을 고쳐서 같은 키로 보내면 다시 처리한다.
+        Responder rerender = (id, response) -> {
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write("<form>...</form>");
+        };
+        post("key-1", rerender, null);
+        MockHttpServletResponse second = post("key-1", rerender, null);
+        MockHttpServletResponse third = post("key-1", REDIRECT, null);
+        MockHttpServletResponse fourth = post("key-1", REDIRECT, null);
+
+        assertThat(saved.get()).isEqualTo(3);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAY_HEADER)).isNull();
+        assertThat(fourth.getHeader("Location")).isEqualTo(third.getHeader("Location"));
+        assertThat(fourth.getHeader(IdempotencyFilter.REPLAY_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void apiJsonStored() throws Exception {
+        Responder json = (id, response) -> {
+            response.setStatus(400);
+            response.setContentType("application/json");
+            response.getWriter().write("[{\"field\":\"price\",\"code\":\"Range\"}]");
+        };
+        MockHttpServletResponse first = post("key-1", json, null);
+        MockHttpServletResponse second = post("key-1", json, null);
+
+        assertThat(saved.get()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(400);
+        assertThat(second.getContentType()).isEqualTo(first.getContentType());
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    void keyPerSession() throws Exception {
+        MockHttpSession sessionA = new MockHttpSession();
+        MockHttpSession sessionB = new MockHttpSession();
+
+        MockHttpServletResponse a = post("key-1", REDIRECT, sessionA);
+        MockHttpServletResponse b = post("key-1", REDIRECT, sessionB);
+        MockHttpServletResponse replay = post("key-1", REDIRECT, sessionA);
+
+        // 다른 세션이 같은 키를 보내도 다른 세션의 응답을 받지 않는다.
+        assertThat(saved.get()).isEqualTo(2);
+        assertThat(b.getHeader("Location")).isNotEqualTo(a.getHeader("Location"));
+        assertThat(replay.getHeader("Location")).isEqualTo(a.getHeader("Location"));
+    }
+
+    @Test
+    void replayHeaders() throws Exception {
+        Responder redirect = (id, response) -> {
+            response.addHeader("Cache-Control", "no-store");
+            response.addHeader("Vary", "Accept-Language");
+            response.addHeader("Vary", "Cookie");
+            response.addCookie(new Cookie("last-item", String.valueOf(id)));
+            response.sendRedirect("/validation/v4/items/" + id);
+        };
+        post("key-1", redirect, null);
+        MockHttpServletResponse second = post("key-1", redirect, null);
+
+        assertThat(second.getStatus()).isEqualTo(302);
+        assertThat(second.getHeader("Location")).isEqualTo("/validation/v4/items/1");
+        assertThat(second.getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(second.getHeaders("Vary")).containsExactly("Accept-Language", "Cookie");
+        assertThat(second.getHeader("Set-Cookie")).isNull();
+    }
+
+    @Test
+    void replayable() {
+        assertThat(IdempotencyFilter.isReplayable(302, null)).isTrue();
+        assertThat(IdempotencyFilter.isReplayable(200, "application/json")).isTrue();
+        assertThat(IdempotencyFilter.isReplayable(400, "application/problem+json")).isTrue();
+        assertThat(IdempotencyFilter.isReplayable(200, "text/html;charset=UTF-8")).isFalse();
+        assertThat(IdempotencyFilter.isReplayable(400, "text/html;charset=UTF-8")).isFalse();
+        assertThat(IdempotencyFilter.isReplayable(500, "application/json")).isFalse();
+        assertThat(IdempotencyFilter.isReplayable(200, null)).isFalse();
+    }
+
+    @Test
+    void boundedCache() {
+        IdempotencyCache small = new IdempotencyCache(10, TimeUnit.MINUTES.toMillis(10));
+        for (int i = 0; i < 100; i++) {
+            small.claim("key-" + i, new CompletableFuture<>());
+        }
+        assertThat(small.size()).isEqualTo(10);
+    }
+
+    private MockHttpServletResponse post(String key) throws Exception {
+        return post(key, REDIRECT, null);
+    }
+
+    private MockHttpServletResponse post(String key, Responder responder, MockHttpSession session) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/v4/items/add");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.KEY_HEADER, key);
+        }
+        if (session != null) {
+            request.setSession(session);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new SavingServlet(responder)));
+        return response;
+    }
+
+    /**
+     * 저장 후 상세 화면으로 redirect (등록 성공)
+     */
+    static final Responder REDIRECT = (id, response) -> response.sendRedirect("/validation/v4/items/" + id);
+
+    interface Responder {
+        void respond(int id, HttpServletResponse response) throws IOException;
+    }
+
+    /**
+     * 저장하고 responder 로 응답하는 컨트롤러 역할
+     */
+    private class SavingServlet extends HttpServlet {
+
+        private final Responder responder;
+
+        SavingServlet(Responder responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            int id = saved.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            responder.respond(id, response);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.rule.ItemRules;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveValidatorTest {
+
+    ItemValidator itemValidator = new ItemValidator();
+    javax.validation.Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void reorderByRejectRate() {
+        AdaptiveValidator validator = itemValidator(true);
+        assertThat(validator.ruleOrder()).containsExactly("itemName", "price", "quantity");
+
+        // 수량만 계속 거절된다.
+        for (int i = 0; i < 100; i++) {
+            validate(validator, new Item("itemA", 10000, 10000));
+        }
+        validator.reorder();
+
+        assertThat(validator.ruleOrder()).first().isEqualTo("quantity");
+    }
+
+    @Test
+    void failFast() {
+        AdaptiveValidator validator = itemValidator(true);
+
+        BindingResult bindingResult = validate(validator, new Item(" ", 0, 10000));
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+
+        // 필드 오류가 없을 때만 복합 룰을 검사한다.
+        bindingResult = validate(validator, new Item("itemA", 1000, 1));
+        assertThat(bindingResult.getGlobalError().getCode()).isEqualTo("totalPriceMin");
+    }
+
+    @Test
+    void fullModeSameErrorsAfterReorder() {
+        AdaptiveValidator validator = itemValidator(false);
+        for (int i = 0; i < 100; i++) {
+            validate(validator, new Item("itemA", 0, 10));
+        }
+        validator.reorder();
+        assertThat(validator.ruleOrder()).first().isEqualTo("price");
+
+        for (Item item : Arrays.asList(
+                new Item(" ", 0, 10000),
+                new Item("itemA", 1000, 1),
+                new Item(null, null, null),
+                new Item("itemA", 10000, 10))) {
+            assertThat(describe(validate(validator, item))).isEqualTo(describe(validate(itemValidator, item)));
+        }
+    }
+
+    @Test
+    void beanValidationSameErrors() {
+        AdaptiveValidator validator = AdaptiveValidator.beanValidation(beanValidator, ItemSaveForm.class).build();
+        assertThat(validator.ruleOrder()).containsExactly("itemName", "price", "quantity");
+
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(0);
+        form.setQuantity(null);
+
+        assertThat(describe(validate(validator, form)))
+                .isEqualTo(describe(validate(new SpringValidatorAdapter(beanValidator), form)))
+                .hasSize(3);
+    }
+
+    /**
+     * API fail-fast 모드 (AdaptiveValidationConfig), 오류가 하나뿐이면 FailFastItemSaveFormValidator 와 같은 오류를 남긴다.
+     */
+    @Test
+    void beanValidationFailFast() {
+        AdaptiveValidator validator = AdaptiveValidator.beanValidation(beanValidator, ItemSaveForm.class)
+                .after((target, errors) -> ItemRules.validate((ItemSaveForm) target, errors))
+                .failFast(true)
+                .build();
+        FailFastItemSaveFormValidator failFastValidator = new FailFastItemSaveFormValidator();
+
+        // 수량만 계속 거절되면 수량을 먼저 검사한다.
+        for (int i = 0; i < 100; i++) {
+            validate(validator, saveForm("itemA", 10000, 10000));
+        }
+        validator.reorder();
+        assertThat(validator.ruleOrder()).first().isEqualTo("quantity");
+        BindingResult bindingResult = validate(validator, saveForm(" ", 0, 10000));
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getFieldError("quantity").getCode()).isEqualTo("Max");
+
+        for (ItemSaveForm form : Arrays.asList(
+                saveForm(" ", 10000, 10),
+                saveForm("itemA", 0, 10),
+                saveForm("itemA", 10000, null),
+                saveForm("itemA", 1000, 1),
+                saveForm("itemA", 10000, 10))) {
+            assertThat(describe(validate(validator, form))).isEqualTo(describe(validate(failFastValidator, form)));
+        }
+    }
+
+    private ItemSaveForm saveForm(String itemName, Integer price, Integer quantity) {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(itemName);
+        form.setPrice(price);
+        form.setQuantity(quantity);
+        return form;
+    }
+
+    private AdaptiveValidator itemValidator(boolean failFast) {
+        return itemValidator.adaptiveRules()
+                .failFast(failFast)
+                .build();
+    }
+
+    private BindingResult validate(Validator validator, Object target) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(target, "item");
+        validator.validate(target, bindingResult);
+        return bindingResult;
+    }
+
+    private Set<String> describe(BindingResult bindingResult) {
+        Set<String> errors = new HashSet<>();
+        for (ObjectError error : bindingResult.getAllErrors()) {
+            String field = error instanceof FieldError ? ((FieldError) error).getField() : "";
+            errors.add(field + ":" + error.getCode() + ":" + Arrays.toString(error.getArguments()));
+        }
+        return errors;
+    }
+}
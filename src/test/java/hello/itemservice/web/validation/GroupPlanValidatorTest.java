@@ -0,0 +1,110 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import lombok.Data;
+import org.hibernate.validator.constraints.Range;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.GroupSequence;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupPlanValidatorTest {
+
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    GroupPlanValidator groupPlanValidator = new GroupPlanValidator(validator);
+    SpringValidatorAdapter beanValidator = new SpringValidatorAdapter(validator);
+
+    @Test
+    void sameErrorsAsBeanValidation() {
+        GroupItem item = new GroupItem();
+        item.setItemName(" ");
+        item.setPrice(0);
+        item.setQuantity(10000);
+
+        for (Class<?> group : new Class<?>[]{SaveCheck.class, UpdateCheck.class, javax.validation.groups.Default.class}) {
+            assertThat(describe(validate(groupPlanValidator, item, group)))
+                    .isEqualTo(describe(validate(beanValidator, item, group)));
+        }
+        // UpdateCheck 에는 수량 최대값 제약이 없다.
+        assertThat(describe(validate(groupPlanValidator, item, UpdateCheck.class))).doesNotContain("quantity:Max");
+    }
+
+    @Test
+    void planCached() {
+        GroupItem item = new GroupItem();
+        validate(groupPlanValidator, item, SaveCheck.class);
+        validate(groupPlanValidator, item, SaveCheck.class);
+        validate(groupPlanValidator, item, UpdateCheck.class);
+
+        assertThat(groupPlanValidator.planCount()).isEqualTo(2);
+    }
+
+    @Test
+    void groupSequence() {
+        GroupItem item = new GroupItem();
+        item.setItemName(" ");
+        item.setPrice(0);
+        item.setQuantity(10000);
+
+        // 첫 단계(NotNull/NotBlank 가 있는 SaveCheck)에서 오류가 나면 범위 검사(RangeCheck)는 하지 않는다.
+        List<String> errors = describe(validate(groupPlanValidator, item, Ordered.class));
+        assertThat(errors).isEqualTo(describe(validate(beanValidator, item, Ordered.class)));
+        assertThat(errors).doesNotContain("price:Range");
+
+        item.setItemName("itemA");
+        item.setQuantity(10);
+        errors = describe(validate(groupPlanValidator, item, Ordered.class));
+        assertThat(errors).containsExactly("price:Range");
+    }
+
+    private BindingResult validate(SmartValidator validator, Object target, Class<?> group) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(target, "item");
+        validator.validate(target, bindingResult, group);
+        return bindingResult;
+    }
+
+    private List<String> describe(BindingResult bindingResult) {
+        List<String> errors = new ArrayList<>();
+        for (FieldError error : bindingResult.getFieldErrors()) {
+            errors.add(error.getField() + ":" + error.getCode());
+        }
+        errors.sort(null);
+        return errors;
+    }
+
+    interface RangeCheck {
+    }
+
+    @GroupSequence({SaveCheck.class, RangeCheck.class})
+    interface Ordered {
+    }
+
+    @Data
+    static class GroupItem {
+
+        @NotBlank(groups = {SaveCheck.class, UpdateCheck.class})
+        private String itemName;
+
+        @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
+        @Range(min = 1000, max = 1000000, groups = {UpdateCheck.class, RangeCheck.class})
+        private Integer price;
+
+        @NotNull
+        @Max(value = 9999, groups = SaveCheck.class)
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,81 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 목록 화면(v1~v4)을 다음 페이지가 있는 상태로 렌더링하고, 다음 페이지 링크를 따라가서 모든 상품을 한 번씩 보는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemListPageTest {
+
+    static final int SIZE = 10;
+    static final Pattern NEXT_LINK = Pattern.compile("<a class=\"btn btn-secondary float-end\"[^>]*\\shref=\"([^\"]+)\"");
+    static final Pattern ITEM_LINK = Pattern.compile("/items/(\\d+)\"");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        itemRepository.clearStore();
+        for (int i = 0; i < SIZE * 2 + 5; i++) {
+            itemRepository.save(new Item("item" + i, 1000 + i, 10));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void nextPageLink() throws Exception {
+        for (String version : new String[]{"v1", "v2", "v3", "v4"}) {
+            for (String sort : new String[]{"id", "price", "name"}) {
+                assertThat(visitAllPages("/validation/" + version + "/items?sort=" + sort + "&size=" + SIZE))
+                        .as("%s sort=%s", version, sort)
+                        .hasSize(SIZE * 2 + 5);
+            }
+        }
+    }
+
+    private Set<Long> visitAllPages(String url) throws Exception {
+        Set<Long> ids = new HashSet<>();
+        int pages = 0;
+        while (url != null) {
+            String html = mockMvc.perform(get(url)).andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            pages++;
+
+            Matcher item = ITEM_LINK.matcher(html);
+            while (item.find()) {
+                ids.add(Long.parseLong(item.group(1)));
+            }
+            Matcher next = NEXT_LINK.matcher(html);
+            url = next.find() ? HtmlUtils.htmlUnescape(next.group(1)) : null;
+        }
+        assertThat(pages).isEqualTo(3);
+        return ids;
+    }
+}
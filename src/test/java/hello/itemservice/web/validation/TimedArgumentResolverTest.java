@@ -0,0 +1,69 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import javax.validation.Valid;
+import javax.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimedArgumentResolverTest {
+
+    MeterRegistry registry = new SimpleMeterRegistry();
+    ValidationMetrics metrics = new ValidationMetrics(registry);
+    TimedArgumentResolver resolver = new TimedArgumentResolver(
+            new RequestResponseBodyMethodProcessor(List.of(new MappingJackson2HttpMessageConverter())), metrics);
+
+    WebDataBinderFactory binderFactory = (webRequest, target, objectName) -> {
+        WebDataBinder binder = new WebDataBinder(target, objectName);
+        binder.setValidator(new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()));
+        return binder;
+    };
+
+    /**
+     * BindingResult 인자가 없는 JSON 핸들러
+     */
+    void addItem(@RequestBody @Valid ItemSaveForm form) {
+    }
+
+    @Test
+    void requestBodyWithoutBindingResult() throws Exception {
+        //given
+        MethodParameter parameter = new MethodParameter(
+                getClass().getDeclaredMethod("addItem", ItemSaveForm.class), 0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/api/items/add");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"itemName\":\" \",\"price\":10000,\"quantity\":10}".getBytes(StandardCharsets.UTF_8));
+        ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+
+        //when (MethodArgumentNotValidException)
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter, new ModelAndViewContainer(), webRequest, binderFactory))
+                .isInstanceOf(MethodArgumentNotValidException.class);
+        new ValidationMetricsInterceptor(metrics).afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        //then (error 가 아니라 invalid 로 기록하고 오류 코드도 센다)
+        assertThat(registry.get("validation.binding").tag("outcome", "invalid").timer().count()).isEqualTo(1);
+        assertThat(registry.get("validation.binding").tag("outcome", "error").timer().count()).isZero();
+        assertThat(registry.get("validation.rejected").tag("code", "NotBlank").tag("field", "itemName")
+                .counter().count()).isEqualTo(1);
+    }
+}
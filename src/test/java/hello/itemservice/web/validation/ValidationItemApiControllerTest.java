@@ -0,0 +1,97 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class ValidationItemApiControllerTest {
+
+    ItemRepository itemRepository = new MemoryItemRepository();
+    ObjectMapper objectMapper = new ObjectMapper();
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ValidationItemApiController(
+            itemRepository,
+            new ItemFormValidator(Validation.buildDefaultValidatorFactory().getValidator()),
+            messageSource(),
+            new ValidationMetrics(new SimpleMeterRegistry()),
+            new StaticListableBeanFactory().getBeanProvider(AdaptiveValidator.class))).build();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void sameRulesInBothModes() throws Exception {
+        // 필드는 모두 통과하고 가격 * 수량(1,000)만 10,000 미만
+        String body = "{\"itemName\":\"a\",\"price\":1000,\"quantity\":1}";
+
+        assertThat(codes(addItem(body, "full"))).containsExactly("totalPriceMin");
+        assertThat(codes(addItem(body, "fail-fast"))).containsExactly("totalPriceMin");
+
+        // 일괄 등록과도 같다.
+        JsonNode batch = perform(post("/validation/api/items/add-batch").content("[" + body + "]"));
+        assertThat(codes(batch.get(0).get("errors"))).containsExactly("totalPriceMin");
+    }
+
+    @Test
+    void fieldErrorsInBothModes() throws Exception {
+        String body = "{\"itemName\":\" \",\"price\":0,\"quantity\":10000}";
+
+        // full 모드는 모든 필드 오류, fail-fast 모드는 그중 첫 오류 (필드 오류가 있으면 복합 룰은 검사하지 않는다)
+        assertThat(codes(addItem(body, "full"))).containsExactlyInAnyOrder("NotBlank", "Range", "Max");
+        assertThat(codes(addItem(body, "fail-fast"))).hasSize(1).isSubsetOf("NotBlank", "Range", "Max");
+    }
+
+    @Test
+    void valid() throws Exception {
+        String body = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}";
+
+        assertThat(addItem(body, "full").get("itemName").asText()).isEqualTo("itemA");
+        assertThat(addItem(body, "fail-fast").get("itemName").asText()).isEqualTo("itemA");
+    }
+
+    private JsonNode addItem(String body, String mode) throws Exception {
+        return perform(post("/validation/api/items/add")
+                .header(ValidationItemApiController.VALIDATION_MODE_HEADER, mode)
+                .content(body));
+    }
+
+    private JsonNode perform(MockHttpServletRequestBuilder request) throws Exception {
+        String response = mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(response);
+    }
+
+    private List<String> codes(JsonNode errors) {
+        List<String> codes = new ArrayList<>();
+        for (JsonNode error : errors) {
+            codes.add(error.get("code").asText());
+        }
+        return codes;
+    }
+
+    private static ResourceBundleMessageSource messageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+}
@@ -0,0 +1,60 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.validation.Validation;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+
+class ValidationItemControllerV2Test {
+
+    ItemRepository itemRepository = new MemoryItemRepository();
+    ItemValidator itemValidator = new ItemValidator();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void adaptiveFailFast() throws Exception {
+        // validation.adaptive.enabled=true 일 때처럼 AdaptiveValidator 빈이 둘 있다. (AdaptiveValidationConfig)
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("adaptiveFailFastValidator", AdaptiveValidator.beanValidation(
+                Validation.buildDefaultValidatorFactory().getValidator(), ItemSaveForm.class).failFast(true).build());
+        beanFactory.addBean("adaptiveItemValidator", itemValidator.adaptiveRules().failFast(true).build());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ValidationItemControllerV2(
+                itemRepository, itemValidator, beanFactory.getBeanProvider(AdaptiveValidator.class))).build();
+
+        // fail-fast 모드는 ItemValidator 룰 중 첫 오류만, 기본은 모든 오류
+        mockMvc.perform(addItem().header(ValidationItemApiController.VALIDATION_MODE_HEADER, "fail-fast"))
+                .andExpect(model().attributeErrorCount("item", 1));
+        mockMvc.perform(addItem())
+                .andExpect(model().attributeErrorCount("item", 3));
+    }
+
+    @Test
+    void withoutAdaptiveValidator() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ValidationItemControllerV2(
+                itemRepository, itemValidator, new StaticListableBeanFactory().getBeanProvider(AdaptiveValidator.class))).build();
+
+        mockMvc.perform(addItem().header(ValidationItemApiController.VALIDATION_MODE_HEADER, "fail-fast"))
+                .andExpect(model().attributeErrorCount("item", 3));
+    }
+
+    private MockHttpServletRequestBuilder addItem() {
+        return post("/validation/v2/items/add")
+                .param("itemName", " ")
+                .param("price", "0")
+                .param("quantity", "10000");
+    }
+}
@@ -0,0 +1,139 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class ValidationItemImportControllerTest {
+
+    static final String VALID = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}";
+    static final String INVALID = "{\"itemName\":\" \",\"price\":10000,\"quantity\":10}";
+
+    ItemRepository itemRepository = new MemoryItemRepository();
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    ItemFormValidator itemFormValidator = new ItemFormValidator(Validation.buildDefaultValidatorFactory().getValidator());
+    MeterRegistry registry = new SimpleMeterRegistry();
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ValidationItemImportController(
+            itemRepository, itemFormValidator, objectMapper, new ValidationMetrics(registry))).build();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void blankLinesAndCrLf() throws Exception {
+        List<JsonNode> results = importItems(VALID + "\r\n\r\n\n" + INVALID + "\r\n\r");
+
+        // 빈 줄(\r 만 있는 줄 포함)은 결과 없이 건너뛰고, index 는 요청의 줄 번호를 유지한다.
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).get("index").asInt()).isEqualTo(1);
+        assertThat(results.get(0).get("status").asText()).isEqualTo("saved");
+        assertThat(results.get(1).get("index").asInt()).isEqualTo(4);
+        assertThat(results.get(1).get("status").asText()).isEqualTo("rejected");
+        assertThat(results.get(1).get("errors").get(0).get("field").asText()).isEqualTo("itemName");
+        assertThat(itemRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void invalidJson() throws Exception {
+        List<JsonNode> results = importItems("{\"itemName\":\"itemA\",\n[1, 2]\n" + VALID);
+
+        assertThat(results).hasSize(3);
+        assertThat(code(results.get(0))).isEqualTo("invalidJson");
+        assertThat(code(results.get(1))).isEqualTo("invalidJson");
+        assertThat(results.get(2).get("status").asText()).isEqualTo("saved");
+        assertThat(registry.get("validation.rejected").tag("code", "invalidJson").tag("field", "none").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void typeMismatch() throws Exception {
+        List<JsonNode> results = importItems("{\"itemName\":\"itemA\",\"price\":\"abc\",\"quantity\":10}");
+
+        JsonNode error = results.get(0).get("errors").get(0);
+        assertThat(error.get("field").asText()).isEqualTo("price");
+        assertThat(error.get("code").asText()).isEqualTo("typeMismatch");
+        assertThat(error.get("codes").toString()).contains("typeMismatch.itemSaveForm.price", "typeMismatch.java.lang.Integer");
+        assertThat(error.get("rejectedValue").asText()).isEqualTo("abc");
+        assertThat(error.get("bindingFailure").asBoolean()).isTrue();
+    }
+
+    @Test
+    void lineTooLong() throws Exception {
+        String name = "a".repeat(ValidationItemImportController.MAX_LINE_BYTES);
+        String tooLong = "{\"itemName\":\"" + name + "\",\"price\":10000,\"quantity\":10}";
+        String maxLength = " ".repeat(ValidationItemImportController.MAX_LINE_BYTES - VALID.length()) + VALID;
+
+        List<JsonNode> results = importItems(tooLong + "\n" + maxLength + "\r\n" + VALID);
+
+        // 최대 길이를 넘는 줄만 거절하고, 다음 줄부터는 그대로 처리한다. (\r 은 길이에 포함하지 않는다)
+        assertThat(results).hasSize(3);
+        assertThat(code(results.get(0))).isEqualTo("lineTooLong");
+        assertThat(results.get(0).get("errors").get(0).get("arguments").get(0).asInt())
+                .isEqualTo(ValidationItemImportController.MAX_LINE_BYTES);
+        assertThat(results.get(1).get("status").asText()).isEqualTo("saved");
+        assertThat(results.get(2).get("status").asText()).isEqualTo("saved");
+    }
+
+    @Test
+    void batchesInLineOrder() throws Exception {
+        int lines = ValidationItemImportController.BATCH_SIZE * 2 + 10;
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= lines; i++) {
+            body.append(i % 3 == 0 ? INVALID : VALID).append('\n');
+        }
+
+        List<JsonNode> results = importItems(body.toString());
+
+        // 배치 경계와 상관없이 결과는 줄 순서대로, 저장된 id 는 줄 순서대로 커진다.
+        assertThat(results).hasSize(lines);
+        long lastId = 0;
+        for (int i = 1; i <= lines; i++) {
+            JsonNode result = results.get(i - 1);
+            assertThat(result.get("index").asInt()).isEqualTo(i);
+            if (i % 3 == 0) {
+                assertThat(result.get("status").asText()).isEqualTo("rejected");
+                continue;
+            }
+            assertThat(result.get("itemId").asLong()).isGreaterThan(lastId);
+            lastId = result.get("itemId").asLong();
+        }
+        assertThat(itemRepository.findAll()).hasSize(lines - lines / 3);
+    }
+
+    private String code(JsonNode result) {
+        return result.get("errors").get(0).get("code").asText();
+    }
+
+    private List<JsonNode> importItems(String body) throws Exception {
+        String response = mockMvc.perform(post("/validation/api/items/import")
+                        .contentType("application/x-ndjson")
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(objectMapper.readTree(line));
+            }
+        }
+        return results;
+    }
+}
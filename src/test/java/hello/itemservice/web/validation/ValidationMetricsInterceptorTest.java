@@ -0,0 +1,41 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationMetricsInterceptorTest {
+
+    MeterRegistry registry = new SimpleMeterRegistry();
+    ValidationMetricsInterceptor interceptor = new ValidationMetricsInterceptor(new ValidationMetrics(registry));
+
+    @Test
+    void countAfterCompletion() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/v2/items/add");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Item(), "item");
+        bindingResult.rejectValue("itemName", "required");
+
+        // 인자 처리 시점(TimedArgumentResolver)에 등록한 뒤 컨트롤러가 추가한 오류도 센다.
+        ValidationMetricsInterceptor.register(new ServletWebRequest(request), bindingResult);
+        bindingResult.reject("totalPriceMin");
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        assertThat(count("required", "itemName")).isEqualTo(1);
+        assertThat(count("totalPriceMin", "none")).isEqualTo(1);
+
+        // 같은 요청에서 다시 불려도 두 번 세지 않는다.
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        assertThat(count("required", "itemName")).isEqualTo(1);
+    }
+
+    private double count(String code, String field) {
+        return registry.get("validation.rejected").tag("code", code).tag("field", field).counter().count();
+    }
+}
@@ -0,0 +1,16 @@
+package hello.itemservice.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일할 때 폼 필드를 읽어서 {클래스명}CompiledBinder 를 생성한다.
+ * 요청 파라미터를 리플렉션(BeanWrapper) 없이 setter 로 바로 바인딩한다.
+ * 지원 필드 타입: String, Integer, Long
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface CompiledBinding {
+}
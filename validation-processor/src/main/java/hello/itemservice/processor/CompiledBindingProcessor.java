@@ -0,0 +1,129 @@
+package hello.itemservice.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @CompiledBinding 이 붙은 폼 클래스의 필드마다 요청 파라미터를 setter 로 바로 넣는 FormBinder 를 생성한다.
+ *
+ * 생성된 바인더는 기본 바인더(WebDataBinder -> BeanWrapper -> ConversionService)와 같은 결과를 만든다.
+ * - 값 변환과 typeMismatch 오류 기록은 FormParameters 가 담당한다.
+ * - 필드는 이름순으로 바인딩한다. 기본 바인더도 요청 파라미터를 이름순(TreeMap)으로 적용하므로 오류 순서가 같다.
+ */
+@SupportedAnnotationTypes("hello.itemservice.processor.CompiledBinding")
+public class CompiledBindingProcessor extends AbstractProcessor {
+
+    private static final Map<String, String> BIND_METHODS = Map.of(
+            "java.lang.String", "bindString",
+            "java.lang.Integer", "bindInteger",
+            "java.lang.Long", "bindLong");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(CompiledBinding.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@CompiledBinding 은 클래스에만 사용할 수 있습니다.");
+                continue;
+            }
+            try {
+                generate((TypeElement) element);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        String formName = type.getSimpleName().toString();
+        String binderName = formName + "CompiledBinder";
+
+        List<Element> fields = new ArrayList<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.FIELD || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (!BIND_METHODS.containsKey(member.asType().toString())) {
+                error(member, "@CompiledBinding 이 지원하지 않는 필드 타입입니다: " + member.asType());
+                continue;
+            }
+            fields.add(member);
+        }
+        fields.sort(Comparator.comparing(field -> field.getSimpleName().toString()));
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + "." + binderName, type).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import hello.itemservice.web.binding.FormBinder;");
+            out.println("import hello.itemservice.web.binding.FormParameters;");
+            out.println();
+            out.println("import java.util.List;");
+            out.println();
+            out.println("/**");
+            out.println(" * " + formName + " 바인더 (CompiledBindingProcessor 가 자동 생성, 직접 수정하지 않는다)");
+            out.println(" */");
+            out.println("public final class " + binderName + " implements FormBinder<" + formName + "> {");
+            out.println();
+            out.println("    private static final List<String> FIELDS = List.of(" + fieldNames(fields) + ");");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + formName + "> formType() {");
+            out.println("        return " + formName + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public List<String> fields() {");
+            out.println("        return FIELDS;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void bind(" + formName + " form, FormParameters parameters) {");
+            for (Element field : fields) {
+                String name = field.getSimpleName().toString();
+                String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                out.println("        parameters." + BIND_METHODS.get(field.asType().toString())
+                        + "(\"" + name + "\", form::" + setter + ");");
+            }
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private static String fieldNames(List<Element> fields) {
+        StringBuilder names = new StringBuilder();
+        for (Element field : fields) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append('"').append(field.getSimpleName()).append('"');
+        }
+        return names.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,15 @@
+package hello.itemservice.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일할 때 Bean Validation 애노테이션을 읽어서 {클래스명}CompiledValidator 를 생성한다.
+ * 지원 애노테이션: @NotNull, @NotBlank, @Min, @Max, @Range (groups 미지원)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface CompiledValidation {
+}